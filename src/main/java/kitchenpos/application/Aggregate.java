@@ -0,0 +1,8 @@
+package kitchenpos.application;
+
+public enum Aggregate {
+    MENU_GROUP,
+    PRODUCT,
+    MENU,
+    ORDER_TABLE
+}
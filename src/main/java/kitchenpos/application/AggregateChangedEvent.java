@@ -0,0 +1,4 @@
+package kitchenpos.application;
+
+public record AggregateChangedEvent(Aggregate aggregate) {
+}
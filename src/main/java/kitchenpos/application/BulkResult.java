@@ -0,0 +1,19 @@
+package kitchenpos.application;
+
+public record BulkResult<T>(int index, T item, String failure) {
+    public static <T> BulkResult<T> success(final int index, final T item) {
+        return new BulkResult<>(index, item, null);
+    }
+
+    public static <T> BulkResult<T> failure(final int index, final String failure) {
+        return new BulkResult<>(index, null, failure);
+    }
+
+    public static <T> BulkResult<T> failure(final int index, final T item, final String failure) {
+        return new BulkResult<>(index, item, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.ChangeVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class ChangeVersionService {
+    private final ChangeVersionRepository changeVersionRepository;
+
+    public ChangeVersionService(final ChangeVersionRepository changeVersionRepository) {
+        this.changeVersionRepository = changeVersionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public long version(final Aggregate aggregate) {
+        return changeVersionRepository.findVersionByAggregate(aggregate.name())
+            .orElse(0L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void increment(final AggregateChangedEvent event) {
+        if (changeVersionRepository.increment(event.aggregate().name()) == 0) {
+            throw new IllegalStateException();
+        }
+    }
+}
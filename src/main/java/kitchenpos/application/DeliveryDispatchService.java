@@ -0,0 +1,112 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryDispatch;
+import kitchenpos.domain.DeliveryDispatchRepository;
+import kitchenpos.domain.DeliveryDispatchStatus;
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class DeliveryDispatchService {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final DeliveryDispatchRepository deliveryDispatchRepository;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    public DeliveryDispatchService(
+        final DeliveryDispatchRepository deliveryDispatchRepository,
+        @Value("${kitchenpos.delivery.dispatch.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.dispatch.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.dispatch.lease:1m}") final Duration lease,
+        @Value("${kitchenpos.delivery.dispatch.backoff:1s}") final Duration backoff,
+        @Value("${kitchenpos.delivery.dispatch.max-backoff:5m}") final Duration maxBackoff
+    ) {
+        this.deliveryDispatchRepository = deliveryDispatchRepository;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Transactional
+    public DeliveryDispatch enqueue(final Order order) {
+        final LocalDateTime now = LocalDateTime.now();
+        final DeliveryDispatch dispatch = new DeliveryDispatch();
+        dispatch.setId(UUID.randomUUID());
+        dispatch.setOrderId(order.getId());
+        dispatch.setAmount(order.getTotalPrice());
+        dispatch.setDeliveryAddress(order.getDeliveryAddress());
+        dispatch.setStatus(DeliveryDispatchStatus.PENDING);
+        dispatch.setAttempts(0);
+        dispatch.setNextAttemptAt(now);
+        dispatch.setCreatedAt(now);
+        return deliveryDispatchRepository.save(dispatch);
+    }
+
+    @Transactional
+    public List<DeliveryDispatch> claimDue() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryDispatch> dispatches = deliveryDispatchRepository.findAllDue(
+            DeliveryDispatchStatus.PENDING,
+            now,
+            PageRequest.ofSize(batchSize)
+        );
+        for (final DeliveryDispatch dispatch : dispatches) {
+            dispatch.setNextAttemptAt(now.plus(lease));
+        }
+        return dispatches;
+    }
+
+    @Transactional
+    public void markSent(final UUID dispatchId) {
+        final DeliveryDispatch dispatch = deliveryDispatchRepository.findById(dispatchId)
+            .orElseThrow(NoSuchElementException::new);
+        dispatch.setAttempts(dispatch.getAttempts() + 1);
+        dispatch.setStatus(DeliveryDispatchStatus.SENT);
+        dispatch.setSentAt(LocalDateTime.now());
+        dispatch.setLastError(null);
+    }
+
+    @Transactional
+    public DeliveryDispatchStatus markFailed(final UUID dispatchId, final String error) {
+        final DeliveryDispatch dispatch = deliveryDispatchRepository.findById(dispatchId)
+            .orElseThrow(NoSuchElementException::new);
+        final int attempts = dispatch.getAttempts() + 1;
+        dispatch.setAttempts(attempts);
+        dispatch.setLastError(truncate(error));
+        if (attempts >= maxAttempts) {
+            dispatch.setStatus(DeliveryDispatchStatus.FAILED);
+            return dispatch.getStatus();
+        }
+        dispatch.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+        return dispatch.getStatus();
+    }
+
+    Duration backoff(final int attempts) {
+        final long millis = Math.min(maxBackoff.toMillis(), backoff.toMillis() << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+    }
+
+    private String truncate(final String error) {
+        if (Objects.isNull(error) || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
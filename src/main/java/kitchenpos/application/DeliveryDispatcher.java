@@ -0,0 +1,153 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.DeliveryDispatch;
+import kitchenpos.domain.DeliveryDispatchStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DeliveryDispatcher implements InitializingBean, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryDispatcher.class);
+
+    private final DeliveryDispatchService deliveryDispatchService;
+    private final KitchenridersClient kitchenridersClient;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final Duration interval;
+    private final Duration lease;
+    private final Duration sendTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService requests;
+
+    public DeliveryDispatcher(
+        final DeliveryDispatchService deliveryDispatchService,
+        final KitchenridersClient kitchenridersClient,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.delivery.dispatch.max-concurrency:16}") final int maxConcurrency,
+        @Value("${kitchenpos.delivery.dispatch.interval:PT1S}") final Duration interval,
+        @Value("${kitchenpos.delivery.dispatch.lease:1m}") final Duration lease,
+        @Value("${kitchenpos.delivery.dispatch.send-timeout:10s}") final Duration sendTimeout
+    ) {
+        if (sendTimeout.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.deliveryDispatchService = deliveryDispatchService;
+        this.kitchenridersClient = kitchenridersClient;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency);
+        this.interval = interval;
+        this.lease = lease;
+        this.sendTimeout = sendTimeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("delivery-dispatch").daemon().factory()
+        );
+        this.requests = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        requests.shutdownNow();
+    }
+
+    public int dispatch() {
+        final Instant deadline = Instant.now().plus(lease).minus(sendTimeout);
+        final List<DeliveryDispatch> dispatches = deliveryDispatchService.claimDue();
+        if (dispatches.isEmpty()) {
+            return 0;
+        }
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final DeliveryDispatch dispatch : dispatches) {
+                executor.execute(() -> sendWithPermit(dispatch, deadline));
+            }
+        }
+        return dispatches.size();
+    }
+
+    private void run() {
+        try {
+            dispatch();
+        } catch (final RuntimeException e) {
+            log.error("delivery dispatch run failed", e);
+        }
+    }
+
+    private void sendWithPermit(final DeliveryDispatch dispatch, final Instant deadline) {
+        try {
+            if (!permits.tryAcquire(Duration.between(Instant.now(), deadline).toMillis(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("kitchenpos.delivery.dispatch", "result", "deferred").increment();
+                return;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            send(dispatch);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void send(final DeliveryDispatch dispatch) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            requestDelivery(dispatch);
+        } catch (final RuntimeException e) {
+            sample.stop(meterRegistry.timer("kitchenpos.delivery.dispatch.latency", "outcome", "error"));
+            final DeliveryDispatchStatus status = deliveryDispatchService.markFailed(dispatch.getId(), e.getMessage());
+            final String result = status == DeliveryDispatchStatus.FAILED ? "failed" : "retry";
+            meterRegistry.counter("kitchenpos.delivery.dispatch", "result", result).increment();
+            log.warn("delivery dispatch for order {} failed ({})", dispatch.getOrderId(), result, e);
+            return;
+        }
+        sample.stop(meterRegistry.timer("kitchenpos.delivery.dispatch.latency", "outcome", "success"));
+        deliveryDispatchService.markSent(dispatch.getId());
+        meterRegistry.counter("kitchenpos.delivery.dispatch", "result", "sent").increment();
+    }
+
+    private void requestDelivery(final DeliveryDispatch dispatch) {
+        final Future<?> request = requests.submit(() -> kitchenridersClient.requestDelivery(
+            dispatch.getOrderId(), dispatch.getAmount(), dispatch.getDeliveryAddress()
+        ));
+        try {
+            request.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            request.cancel(true);
+            throw new IllegalStateException("delivery request timed out after " + sendTimeout, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            request.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuComponentCost;
+import kitchenpos.domain.MenuRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class MenuComponentCostReconciler {
+    private static final Logger log = LoggerFactory.getLogger(MenuComponentCostReconciler.class);
+
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MenuComponentCostReconciler(
+        final MenuRepository menuRepository,
+        final ApplicationEventPublisher eventPublisher
+    ) {
+        this.menuRepository = menuRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${kitchenpos.menu.component-cost.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public List<MenuComponentCost> reconcile() {
+        final List<MenuComponentCost> drifts = menuRepository.findAllComponentCostDrifts();
+        if (drifts.isEmpty()) {
+            return drifts;
+        }
+        for (final MenuComponentCost drift : drifts) {
+            log.warn(
+                "menu {} component cost drifted: stored {}, expected {}",
+                drift.menuId(),
+                drift.componentCost(),
+                drift.expectedComponentCost()
+            );
+            menuRepository.updateComponentCost(drift.menuId(), drift.expectedComponentCost());
+        }
+        final List<UUID> menuIdsToHide = drifts.stream()
+            .filter(drift -> drift.price().compareTo(drift.expectedComponentCost()) > 0)
+            .map(MenuComponentCost::menuId)
+            .toList();
+        if (!menuIdsToHide.isEmpty()) {
+            menuRepository.hideAllByIdIn(menuIdsToHide);
+        }
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
+        return drifts;
+    }
+}
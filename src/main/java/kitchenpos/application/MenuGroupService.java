@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,9 +13,14 @@ import java.util.UUID;
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        final MenuGroupRepository menuGroupRepository,
+        final ApplicationEventPublisher eventPublisher
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -26,7 +32,9 @@ public class MenuGroupService {
         final MenuGroup menuGroup = new MenuGroup();
         menuGroup.setId(UUID.randomUUID());
         menuGroup.setName(name);
-        return menuGroupRepository.save(menuGroup);
+        final MenuGroup savedMenuGroup = menuGroupRepository.save(menuGroup);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU_GROUP));
+        return savedMenuGroup;
     }
 
     @Transactional(readOnly = true)
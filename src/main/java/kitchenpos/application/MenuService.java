@@ -1,30 +1,36 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
-import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.ProfanityClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
     private final MenuRepository menuRepository;
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProfanityClient profanityClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final ProfanityClient profanityClient,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.profanityClient = profanityClient;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -39,12 +45,116 @@ public class MenuService {
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
-            menuProductRequests.stream()
-                .map(MenuProduct::getProductId)
+        final Map<UUID, Product> products = findProducts(productIdsOf(menuProductRequests));
+        if (products.size() != menuProductRequests.size()) {
+            throw new IllegalArgumentException();
+        }
+        final Menu menu = newMenu(request, menuGroup, products);
+        if (profanityClient.containsProfanity(menu.getName())) {
+            throw new IllegalArgumentException();
+        }
+        final Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
+        return savedMenu;
+    }
+
+    @Transactional
+    public List<BulkResult<Menu>> createAll(final List<Menu> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, MenuGroup> menuGroups = menuGroupRepository.findAllById(
+            requests.stream()
+                .map(Menu::getMenuGroupId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(MenuGroup::getId, Function.identity()));
+        final Map<UUID, Product> products = productRepository.findAllByIdIn(
+            requests.stream()
+                .map(Menu::getMenuProducts)
+                .filter(Objects::nonNull)
+                .flatMap(menuProductRequests -> productIdsOf(menuProductRequests).stream())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList()
+        ).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        final List<BulkResult<Menu>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        final Map<Integer, Menu> candidates = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            final Menu request = requests.get(index);
+            final MenuGroup menuGroup = menuGroups.get(request.getMenuGroupId());
+            if (Objects.isNull(menuGroup)) {
+                results.set(index, BulkResult.failure(index, "MENU_GROUP_NOT_FOUND"));
+                continue;
+            }
+            final List<MenuProduct> menuProductRequests = request.getMenuProducts();
+            if (Objects.nonNull(menuProductRequests) && !products.keySet().containsAll(productIdsOf(menuProductRequests))) {
+                results.set(index, BulkResult.failure(index, "PRODUCT_NOT_FOUND"));
+                continue;
+            }
+            try {
+                candidates.put(index, validMenu(request, menuGroup, products));
+            } catch (final IllegalArgumentException e) {
+                results.set(index, BulkResult.failure(index, "INVALID_MENU"));
+            }
+        }
+        final Map<String, Boolean> verdicts = profanityClient.containsProfanityAll(
+            candidates.values()
+                .stream()
+                .map(Menu::getName)
                 .toList()
         );
-        if (products.size() != menuProductRequests.size()) {
+        final List<Menu> menus = new ArrayList<>();
+        candidates.forEach((index, menu) -> {
+            if (Boolean.TRUE.equals(verdicts.get(menu.getName()))) {
+                results.set(index, BulkResult.failure(index, "PROFANE_NAME"));
+                return;
+            }
+            menus.add(menu);
+            results.set(index, BulkResult.success(index, menu));
+        });
+        if (!menus.isEmpty()) {
+            menuRepository.persistAll(menus);
+            eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
+        }
+        return results;
+    }
+
+    private Menu validMenu(final Menu request, final MenuGroup menuGroup, final Map<UUID, Product> products) {
+        final BigDecimal price = request.getPrice();
+        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException();
+        }
+        final List<MenuProduct> menuProductRequests = request.getMenuProducts();
+        if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        return newMenu(request, menuGroup, products);
+    }
+
+    private static List<UUID> productIdsOf(final List<MenuProduct> menuProductRequests) {
+        return menuProductRequests.stream()
+            .map(MenuProduct::getProductId)
+            .toList();
+    }
+
+    private Map<UUID, Product> findProducts(final List<UUID> productIds) {
+        final Map<UUID, Product> products = productRepository.findAllByIdIn(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        final List<UUID> missingProductIds = productIds.stream()
+            .filter(productId -> !products.containsKey(productId))
+            .distinct()
+            .toList();
+        if (!missingProductIds.isEmpty()) {
+            throw new ProductNotFoundException(missingProductIds);
+        }
+        return products;
+    }
+
+    private Menu newMenu(final Menu request, final MenuGroup menuGroup, final Map<UUID, Product> products) {
+        final List<MenuProduct> menuProductRequests = request.getMenuProducts();
+        if (new HashSet<>(productIdsOf(menuProductRequests)).size() != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
@@ -54,8 +164,7 @@ public class MenuService {
             if (quantity < 0) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
+            final Product product = products.get(menuProductRequest.getProductId());
             sum = sum.add(
                 product.getPrice()
                     .multiply(BigDecimal.valueOf(quantity))
@@ -65,11 +174,12 @@ public class MenuService {
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
+        final BigDecimal price = request.getPrice();
         if (price.compareTo(sum) > 0) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name)) {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
@@ -78,8 +188,9 @@ public class MenuService {
         menu.setPrice(price);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
+        menu.setComponentCost(sum);
         menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
+        return menu;
     }
 
     @Transactional
@@ -88,20 +199,13 @@ public class MenuService {
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        BigDecimal sum = BigDecimal.ZERO;
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        if (price.compareTo(menu.getComponentCost()) > 0) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
         return menu;
     }
 
@@ -109,18 +213,11 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        if (menu.getPrice().compareTo(menu.getComponentCost()) > 0) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
         return menu;
     }
 
@@ -129,6 +226,7 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
         return menu;
     }
 
@@ -0,0 +1,33 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+public record OrderCursor(LocalDateTime orderDateTime, UUID id) {
+    private static final String DELIMITER = "_";
+
+    public static OrderCursor from(final Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor decode(final String value) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final String[] parts = decoded.split(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String encode() {
+        final String value = orderDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
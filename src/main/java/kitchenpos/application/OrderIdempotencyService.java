@@ -0,0 +1,84 @@
+package kitchenpos.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class OrderIdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Cache<String, UUID> orderIds;
+    private final Duration retention;
+
+    public OrderIdempotencyService(
+        final OrderService orderService,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order.idempotency.cache.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.order.idempotency.retention:24h}") final Duration retention
+    ) {
+        this.orderService = orderService;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.orderIds = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(retention)
+            .recordStats()
+            .build();
+        this.retention = retention;
+        CaffeineCacheMetrics.monitor(meterRegistry, orderIds, "order-idempotency");
+    }
+
+    public Order create(final String idempotencyKey, final Order request) {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final Optional<UUID> orderId = findOrderId(idempotencyKey);
+        if (orderId.isPresent()) {
+            return orderService.findById(orderId.get());
+        }
+        try {
+            final Order order = orderService.create(request, idempotencyKey);
+            orderIds.put(idempotencyKey, order.getId());
+            return order;
+        } catch (final DataIntegrityViolationException e) {
+            return findOrderId(idempotencyKey)
+                .map(orderService::findById)
+                .orElseThrow(() -> e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public int purgeExpiredKeys() {
+        return orderIdempotencyKeyRepository.deleteAllByCreatedAtBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private Optional<UUID> findOrderId(final String idempotencyKey) {
+        final UUID cached = orderIds.getIfPresent(idempotencyKey);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(cached);
+        }
+        final Optional<UUID> stored = orderIdempotencyKeyRepository.findById(idempotencyKey)
+            .map(OrderIdempotencyKey::getOrderId);
+        stored.ifPresent(orderId -> orderIds.put(idempotencyKey, orderId));
+        return stored;
+    }
+}
@@ -0,0 +1,9 @@
+package kitchenpos.application;
+
+import java.util.List;
+
+public record OrderPage<T>(List<T> orders, OrderCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -3,43 +3,79 @@ package kitchenpos.application;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderLineItemView;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusView;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.OptimisticLockRetry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final Set<OrderStatus> KITCHEN_STATUSES = EnumSet.of(
+        OrderStatus.WAITING,
+        OrderStatus.ACCEPTED,
+        OrderStatus.SERVED
+    );
+    private static final Set<OrderStatus> BULK_TARGET_STATUSES = EnumSet.of(
+        OrderStatus.SERVED,
+        OrderStatus.DELIVERING,
+        OrderStatus.DELIVERED,
+        OrderStatus.COMPLETED
+    );
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final DeliveryDispatchService deliveryDispatchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final DeliveryDispatchService deliveryDispatchService,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.deliveryDispatchService = deliveryDispatchService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @OptimisticLockRetry
     @Transactional
     public Order create(final Order request) {
         final OrderType type = request.getType();
@@ -58,7 +94,10 @@ public class OrderService {
         if (menus.size() != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
+        final Map<UUID, Menu> menusById = menus.stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        BigDecimal totalPrice = BigDecimal.ZERO;
         for (final OrderLineItem orderLineItemRequest : orderLineItemRequests) {
             final long quantity = orderLineItemRequest.getQuantity();
             if (type != OrderType.EAT_IN) {
@@ -66,8 +105,10 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final Menu menu = menusById.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -76,8 +117,14 @@ public class OrderService {
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
+            orderLineItem.setMenuName(menu.getName());
             orderLineItem.setQuantity(quantity);
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItems.add(orderLineItem);
+            totalPrice = totalPrice.add(
+                menu.getPrice()
+                    .multiply(BigDecimal.valueOf(quantity))
+            );
         }
         Order order = new Order();
         order.setId(UUID.randomUUID());
@@ -85,6 +132,7 @@ public class OrderService {
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
         order.setOrderLineItems(orderLineItems);
+        order.setTotalPrice(totalPrice);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
             if (Objects.isNull(deliveryAddress) || deliveryAddress.isEmpty()) {
@@ -98,11 +146,25 @@ public class OrderService {
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + 1);
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        final Order saved = orderRepository.save(order);
+        publishStatusChanged(saved);
+        return saved;
     }
 
+    @OptimisticLockRetry
+    @Transactional
+    public Order create(final Order request, final String idempotencyKey) {
+        final Order order = create(request);
+        orderIdempotencyKeyRepository.saveAndFlush(
+            new OrderIdempotencyKey(idempotencyKey, order.getId(), LocalDateTime.now())
+        );
+        return order;
+    }
+
+    @OptimisticLockRetry
     @Transactional
     public Order accept(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
@@ -111,54 +173,29 @@ public class OrderService {
             throw new IllegalStateException();
         }
         if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+            deliveryDispatchService.enqueue(order);
         }
         order.setStatus(OrderStatus.ACCEPTED);
+        publishStatusChanged(order);
         return order;
     }
 
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return changeStatus(orderId, EnumSet.allOf(OrderType.class), OrderStatus.ACCEPTED, OrderStatus.SERVED);
     }
 
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return changeStatus(orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING);
     }
 
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return changeStatus(orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.DELIVERING, OrderStatus.DELIVERED);
     }
 
+    @OptimisticLockRetry
     @Transactional
     public Order complete(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
@@ -178,16 +215,208 @@ public class OrderService {
         order.setStatus(OrderStatus.COMPLETED);
         if (type == OrderType.EAT_IN) {
             final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() - 1);
+            if (orderTable.getOpenOrderCount() == 0) {
                 orderTable.setNumberOfGuests(0);
                 orderTable.setOccupied(false);
+                eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
             }
         }
+        publishStatusChanged(order);
         return order;
     }
 
+    @Transactional
+    public List<BulkResult<UUID>> changeStatuses(final OrderStatusChangeRequest request) {
+        final OrderStatus target = request.status();
+        final List<UUID> orderIds = request.orderIds();
+        if (!BULK_TARGET_STATUSES.contains(target) || Objects.isNull(orderIds) || orderIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, OrderStatusView> views = orderRepository.findAllForUpdateByIdIn(orderIds)
+            .stream()
+            .map(OrderStatusView::from)
+            .collect(Collectors.toMap(OrderStatusView::orderId, Function.identity()));
+        final String[] failures = new String[orderIds.size()];
+        final Map<OrderStatus, List<UUID>> orderIdsBySource = new EnumMap<>(OrderStatus.class);
+        final Set<UUID> requested = new HashSet<>();
+        for (int index = 0; index < orderIds.size(); index++) {
+            final UUID orderId = orderIds.get(index);
+            final OrderStatusView view = views.get(orderId);
+            if (Objects.isNull(view)) {
+                failures[index] = "ORDER_NOT_FOUND";
+                continue;
+            }
+            if (!requested.add(orderId)) {
+                failures[index] = "DUPLICATE_ORDER";
+                continue;
+            }
+            final OrderStatus source = sourceStatus(view.type(), target);
+            if (view.status() != source) {
+                failures[index] = "INVALID_STATUS";
+                continue;
+            }
+            orderIdsBySource.computeIfAbsent(source, ignored -> new ArrayList<>()).add(orderId);
+        }
+        applyStatus(orderIdsBySource, target);
+        final Set<UUID> changed = orderIdsBySource.values()
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toSet());
+        if (target == OrderStatus.COMPLETED) {
+            releaseOrderTables(changed, views);
+        }
+        final List<BulkResult<UUID>> results = new ArrayList<>(orderIds.size());
+        for (int index = 0; index < orderIds.size(); index++) {
+            final UUID orderId = orderIds.get(index);
+            if (Objects.nonNull(failures[index])) {
+                results.add(BulkResult.failure(index, orderId, failures[index]));
+                continue;
+            }
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(views.get(orderId), target));
+            results.add(BulkResult.success(index, orderId));
+        }
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public Order findById(final UUID orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
     @Transactional(readOnly = true)
     public List<Order> findAll() {
         return orderRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAll(
+        final OrderStatus status,
+        final OrderType type,
+        final LocalDateTime from,
+        final LocalDateTime to
+    ) {
+        return orderRepository.findAllBefore(status, type, from, to, null, null, Pageable.unpaged());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage<Order> findAll(
+        final OrderStatus status,
+        final OrderType type,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final OrderCursor cursor,
+        final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final List<Order> orders = orderRepository.findAllBefore(
+            status,
+            type,
+            from,
+            to,
+            Objects.isNull(cursor) ? null : cursor.orderDateTime(),
+            Objects.isNull(cursor) ? null : cursor.id(),
+            PageRequest.ofSize(size + 1)
+        );
+        if (orders.size() <= size) {
+            return new OrderPage<>(orders, null);
+        }
+        final List<Order> page = orders.subList(0, size);
+        return new OrderPage<>(page, OrderCursor.from(page.get(size - 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage<OrderSummary> findSummaries(
+        final OrderStatus status,
+        final OrderType type,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final OrderCursor cursor,
+        final int size
+    ) {
+        final OrderPage<Order> page = findAll(status, type, from, to, cursor, size);
+        if (page.orders().isEmpty()) {
+            return new OrderPage<>(Collections.emptyList(), page.nextCursor());
+        }
+        final Map<UUID, List<OrderLineItemView>> lineItemsByOrder = orderRepository.findAllLineItemViewsByOrderIdIn(
+            page.orders()
+                .stream()
+                .map(Order::getId)
+                .toList()
+        ).stream().collect(Collectors.groupingBy(OrderLineItemView::orderId));
+        final List<OrderSummary> summaries = page.orders()
+            .stream()
+            .map(order -> OrderSummary.of(order, lineItemsByOrder.getOrDefault(order.getId(), Collections.emptyList())))
+            .toList();
+        return new OrderPage<>(summaries, page.nextCursor());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findKitchenBoard() {
+        return orderRepository.findAllByStatusInOrderByOrderDateTime(KITCHEN_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final Consumer<Order> consumer) {
+        orderRepository.exportAll(consumer);
+    }
+
+    private OrderStatus sourceStatus(final OrderType type, final OrderStatus target) {
+        return switch (target) {
+            case SERVED -> OrderStatus.ACCEPTED;
+            case DELIVERING -> type == OrderType.DELIVERY ? OrderStatus.SERVED : null;
+            case DELIVERED -> type == OrderType.DELIVERY ? OrderStatus.DELIVERING : null;
+            case COMPLETED -> type == OrderType.DELIVERY ? OrderStatus.DELIVERED : OrderStatus.SERVED;
+            default -> null;
+        };
+    }
+
+    private void applyStatus(final Map<OrderStatus, List<UUID>> orderIdsBySource, final OrderStatus target) {
+        orderIdsBySource.forEach((source, orderIds) -> {
+            if (orderRepository.updateStatuses(orderIds, source, target) != orderIds.size()) {
+                throw new IllegalStateException();
+            }
+        });
+    }
+
+    private void releaseOrderTables(final Set<UUID> completed, final Map<UUID, OrderStatusView> views) {
+        final Map<UUID, Long> completedCountByOrderTable = completed.stream()
+            .map(views::get)
+            .filter(view -> view.type() == OrderType.EAT_IN)
+            .collect(Collectors.groupingBy(OrderStatusView::orderTableId, Collectors.counting()));
+        if (completedCountByOrderTable.isEmpty()) {
+            return;
+        }
+        completedCountByOrderTable.forEach((orderTableId, count) ->
+            orderTableRepository.decreaseOpenOrderCount(orderTableId, count.intValue())
+        );
+        if (orderTableRepository.releaseAllByIdIn(completedCountByOrderTable.keySet()) > 0) {
+            eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
+        }
+    }
+
+    private Order changeStatus(
+        final UUID orderId,
+        final Set<OrderType> types,
+        final OrderStatus from,
+        final OrderStatus to
+    ) {
+        if (orderRepository.updateStatus(orderId, types, from, to) > 0) {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            publishStatusChanged(order);
+            return order;
+        }
+        if (!orderRepository.existsById(orderId)) {
+            throw new NoSuchElementException();
+        }
+        throw new IllegalStateException();
+    }
+
+    private void publishStatusChanged(final Order order) {
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order));
+    }
 }
@@ -0,0 +1,9 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record OrderStatusChangeRequest(List<UUID> orderIds, OrderStatus status) {
+}
@@ -0,0 +1,34 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusView;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderStatusChangedEvent(
+    UUID orderId,
+    OrderType type,
+    UUID orderTableId,
+    OrderStatus status,
+    LocalDateTime occurredAt
+) {
+    public static OrderStatusChangedEvent from(final Order order) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderStatusChangedEvent(
+            order.getId(),
+            order.getType(),
+            Objects.isNull(orderTable) ? null : orderTable.getId(),
+            order.getStatus(),
+            LocalDateTime.now()
+        );
+    }
+
+    public static OrderStatusChangedEvent from(final OrderStatusView view, final OrderStatus status) {
+        return new OrderStatusChangedEvent(view.orderId(), view.type(), view.orderTableId(), status, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItemView;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderSummary(
+    UUID id,
+    OrderType type,
+    OrderStatus status,
+    LocalDateTime orderDateTime,
+    String deliveryAddress,
+    BigDecimal totalPrice,
+    UUID orderTableId,
+    List<LineItem> orderLineItems
+) {
+    public static OrderSummary of(final Order order, final List<OrderLineItemView> lineItems) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderSummary(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            order.getOrderDateTime(),
+            order.getDeliveryAddress(),
+            order.getTotalPrice(),
+            Objects.isNull(orderTable) ? null : orderTable.getId(),
+            lineItems.stream()
+                .map(LineItem::from)
+                .toList()
+        );
+    }
+
+    public record LineItem(UUID menuId, String menuName, long quantity, BigDecimal price) {
+        private static LineItem from(final OrderLineItemView view) {
+            return new LineItem(view.menuId(), view.menuName(), view.quantity(), view.price());
+        }
+    }
+}
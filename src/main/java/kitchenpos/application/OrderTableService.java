@@ -1,9 +1,9 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.infra.OptimisticLockRetry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +15,14 @@ import java.util.UUID;
 @Service
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(
+        final OrderTableRepository orderTableRepository,
+        final ApplicationEventPublisher eventPublisher
+    ) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -33,26 +36,38 @@ public class OrderTableService {
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
-        return orderTableRepository.save(orderTable);
+        final OrderTable savedOrderTable = orderTableRepository.save(orderTable);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
+        return savedOrderTable;
     }
 
+    @OptimisticLockRetry
     @Transactional
     public OrderTable sit(final UUID orderTableId) {
         final OrderTable orderTable = orderTableRepository.findById(orderTableId)
             .orElseThrow(NoSuchElementException::new);
+        if (orderTable.isOccupied()) {
+            return orderTable;
+        }
         orderTable.setOccupied(true);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         return orderTable;
     }
 
+    @OptimisticLockRetry
     @Transactional
     public OrderTable clear(final UUID orderTableId) {
         final OrderTable orderTable = orderTableRepository.findById(orderTableId)
             .orElseThrow(NoSuchElementException::new);
-        if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+        if (orderTable.getOpenOrderCount() > 0) {
             throw new IllegalStateException();
         }
+        if (!orderTable.isOccupied() && orderTable.getNumberOfGuests() == 0) {
+            return orderTable;
+        }
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         return orderTable;
     }
 
@@ -67,7 +82,11 @@ public class OrderTableService {
         if (!orderTable.isOccupied()) {
             throw new IllegalStateException();
         }
+        if (orderTable.getNumberOfGuests() == numberOfGuests) {
+            return orderTable;
+        }
         orderTable.setNumberOfGuests(numberOfGuests);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         return orderTable;
     }
 
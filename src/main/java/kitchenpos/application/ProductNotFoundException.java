@@ -0,0 +1,17 @@
+package kitchenpos.application;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ProductNotFoundException extends IllegalArgumentException {
+    private final List<UUID> missingProductIds;
+
+    public ProductNotFoundException(final List<UUID> missingProductIds) {
+        super("products not found: " + missingProductIds);
+        this.missingProductIds = List.copyOf(missingProductIds);
+    }
+
+    public List<UUID> getMissingProductIds() {
+        return missingProductIds;
+    }
+}
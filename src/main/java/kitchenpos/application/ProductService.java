@@ -1,53 +1,116 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.Menu;
-import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
-import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.OptimisticLockRetry;
+import kitchenpos.infra.ProfanityClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
+    private static final Logger log = LoggerFactory.getLogger(ProductService.class);
+
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProfanityClient profanityClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final ProfanityClient profanityClient,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.profanityClient = profanityClient;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Product create(final Product request) {
+        final Product product = newProduct(request);
+        if (profanityClient.containsProfanity(product.getName())) {
+            throw new IllegalArgumentException();
+        }
+        final Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.PRODUCT));
+        return savedProduct;
+    }
+
+    @Transactional
+    public List<BulkResult<Product>> createAll(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final List<BulkResult<Product>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        final Map<Integer, Product> candidates = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                candidates.put(index, newProduct(requests.get(index)));
+            } catch (final IllegalArgumentException e) {
+                results.set(index, BulkResult.failure(index, "INVALID_PRODUCT"));
+            }
+        }
+        final Map<String, Boolean> verdicts = profanityClient.containsProfanityAll(
+            candidates.values()
+                .stream()
+                .map(Product::getName)
+                .toList()
+        );
+        final List<Product> products = new ArrayList<>();
+        candidates.forEach((index, product) -> {
+            if (Boolean.TRUE.equals(verdicts.get(product.getName()))) {
+                results.set(index, BulkResult.failure(index, "PROFANE_NAME"));
+                return;
+            }
+            products.add(product);
+            results.set(index, BulkResult.success(index, product));
+        });
+        productRepository.persistAll(products);
+        if (!products.isEmpty()) {
+            eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.PRODUCT));
+        }
+        return results;
+    }
+
+    private Product newProduct(final Product request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name)) {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
         product.setId(UUID.randomUUID());
         product.setName(name);
         product.setPrice(price);
-        return productRepository.save(product);
+        return product;
     }
 
+    @OptimisticLockRetry
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
         final BigDecimal price = request.getPrice();
@@ -56,22 +119,73 @@ public class ProductService {
         }
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
-        product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(
-                    menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-                );
+        changePrice(product, price);
+        hideMenusPricedOverProducts(List.of(productId));
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.PRODUCT));
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
+        return product;
+    }
+
+    @OptimisticLockRetry
+    @Transactional
+    public List<Menu> changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, BigDecimal> prices = new LinkedHashMap<>();
+        for (final Product request : requests) {
+            final BigDecimal price = request.getPrice();
+            if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException();
             }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
+            if (Objects.nonNull(prices.put(request.getId(), price))) {
+                throw new IllegalArgumentException();
             }
         }
-        return product;
+        final List<UUID> productIds = List.copyOf(prices.keySet());
+        final List<Product> products = productRepository.findAllByIdIn(productIds);
+        if (products.size() != productIds.size()) {
+            final Set<UUID> foundIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toSet());
+            throw new ProductNotFoundException(
+                productIds.stream()
+                    .filter(productId -> !foundIds.contains(productId))
+                    .toList()
+            );
+        }
+        for (final Product product : products) {
+            changePrice(product, prices.get(product.getId()));
+        }
+        final List<UUID> hiddenMenuIds = hideMenusPricedOverProducts(productIds);
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.PRODUCT));
+        eventPublisher.publishEvent(new AggregateChangedEvent(Aggregate.MENU));
+        if (hiddenMenuIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return menuRepository.findAllByIdIn(hiddenMenuIds);
+    }
+
+    private void changePrice(final Product product, final BigDecimal price) {
+        final BigDecimal delta = price.subtract(product.getPrice());
+        product.setPrice(price);
+        if (delta.signum() != 0) {
+            menuRepository.addComponentCostByProductId(product.getId(), delta);
+        }
+    }
+
+    private List<UUID> hideMenusPricedOverProducts(final Collection<UUID> productIds) {
+        final long startedAt = System.nanoTime();
+        final List<UUID> menuIds = menuRepository.findAllDisplayedIdsPricedOverComponentCost(productIds);
+        if (!menuIds.isEmpty()) {
+            menuRepository.hideAllByIdIn(menuIds);
+        }
+        log.info(
+            "hid {} menus priced over their products in {} ms",
+            menuIds.size(),
+            Duration.ofNanos(System.nanoTime() - startedAt).toMillis()
+        );
+        return menuIds;
     }
 
     @Transactional(readOnly = true)
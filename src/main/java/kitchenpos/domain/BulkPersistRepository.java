@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface BulkPersistRepository<T> {
+    void persistAll(List<T> entities);
+}
@@ -0,0 +1,31 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+public class BulkPersistRepositoryImpl<T> implements BulkPersistRepository<T> {
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BulkPersistRepositoryImpl(
+        final EntityManager entityManager,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") final int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void persistAll(final List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entities.subList(i + 1 - batchSize, i + 1).forEach(entityManager::detach);
+            }
+        }
+        entityManager.flush();
+    }
+}
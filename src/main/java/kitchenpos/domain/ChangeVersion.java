@@ -0,0 +1,28 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Table(name = "change_version")
+@Entity
+public class ChangeVersion {
+    @Column(name = "aggregate")
+    @Id
+    private String aggregate;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    protected ChangeVersion() {
+    }
+
+    public String getAggregate() {
+        return aggregate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ChangeVersionRepository extends JpaRepository<ChangeVersion, String> {
+    @Query("select v.version from ChangeVersion v where v.aggregate = :aggregate")
+    Optional<Long> findVersionByAggregate(@Param("aggregate") String aggregate);
+
+    @Transactional
+    @Modifying
+    @Query("update ChangeVersion v set v.version = v.version + 1 where v.aggregate = :aggregate")
+    int increment(@Param("aggregate") String aggregate);
+}
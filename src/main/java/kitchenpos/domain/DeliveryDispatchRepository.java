@@ -0,0 +1,29 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeliveryDispatchRepository extends JpaRepository<DeliveryDispatch, UUID> {
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select d from DeliveryDispatch d"
+        + " where d.status = :status and d.nextAttemptAt <= :now"
+        + " order by d.nextAttemptAt")
+    List<DeliveryDispatch> findAllDue(
+        @Param("status") DeliveryDispatchStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+}
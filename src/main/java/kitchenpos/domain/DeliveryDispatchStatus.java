@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum DeliveryDispatchStatus {
+    PENDING, SENT, FAILED
+}
@@ -39,6 +39,9 @@ public class Menu {
     @Column(name = "displayed", nullable = false)
     private boolean displayed;
 
+    @Column(name = "component_cost", nullable = false, updatable = false)
+    private BigDecimal componentCost;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "menu_id",
@@ -94,6 +97,14 @@ public class Menu {
         this.displayed = displayed;
     }
 
+    public BigDecimal getComponentCost() {
+        return componentCost;
+    }
+
+    public void setComponentCost(final BigDecimal componentCost) {
+        this.componentCost = componentCost;
+    }
+
     public List<MenuProduct> getMenuProducts() {
         return menuProducts;
     }
@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuComponentCost(UUID menuId, BigDecimal price, BigDecimal componentCost, BigDecimal expectedComponentCost) {
+}
@@ -1,15 +1,48 @@
 package kitchenpos.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface MenuRepository extends JpaRepository<Menu, UUID> {
+public interface MenuRepository extends JpaRepository<Menu, UUID>, BulkPersistRepository<Menu> {
+    @Override
+    @EntityGraph(attributePaths = {"menuGroup", "menuProducts", "menuProducts.product"})
+    List<Menu> findAll();
+
+    @EntityGraph(attributePaths = {"menuGroup", "menuProducts", "menuProducts.product"})
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    @Query("select distinct m.id from Menu m join m.menuProducts mp"
+        + " where mp.product.id in :productIds"
+        + " and m.displayed = true"
+        + " and m.price > m.componentCost")
+    List<UUID> findAllDisplayedIdsPricedOverComponentCost(@Param("productIds") Collection<UUID> productIds);
+
+    @Query("select new kitchenpos.domain.MenuComponentCost(m.id, m.price, m.componentCost, sum(p.price * mp.quantity))"
+        + " from Menu m join m.menuProducts mp join mp.product p"
+        + " group by m.id, m.price, m.componentCost"
+        + " having m.componentCost <> sum(p.price * mp.quantity)")
+    List<MenuComponentCost> findAllComponentCostDrifts();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update menu set component_cost = component_cost + :delta * ("
+        + "select sum(mp.quantity) from menu_product mp where mp.menu_id = menu.id and mp.product_id = :productId)"
+        + " where id in (select mp.menu_id from menu_product mp where mp.product_id = :productId)",
+        nativeQuery = true)
+    int addComponentCostByProductId(@Param("productId") UUID productId, @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Menu m set m.componentCost = :componentCost where m.id = :id")
+    int updateComponentCost(@Param("id") UUID id, @Param("componentCost") BigDecimal componentCost);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Menu m set m.displayed = false where m.id in :ids")
+    int hideAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -12,7 +12,9 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -47,6 +49,9 @@ public class Order {
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
     @ManyToOne
     @JoinColumn(
         name = "order_table_id",
@@ -55,6 +60,10 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Transient
     private UUID orderTableId;
 
@@ -109,6 +118,14 @@ public class Order {
         this.deliveryAddress = deliveryAddress;
     }
 
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(final BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
     public OrderTable getOrderTable() {
         return orderTable;
     }
@@ -124,4 +141,8 @@ public class Order {
     public void setOrderTableId(final UUID orderTableId) {
         this.orderTableId = orderTableId;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
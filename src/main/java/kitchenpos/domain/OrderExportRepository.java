@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.util.function.Consumer;
+
+public interface OrderExportRepository {
+    void exportAll(Consumer<Order> consumer);
+}
@@ -0,0 +1,58 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public OrderExportRepositoryImpl(
+        final EntityManager entityManager,
+        @Value("${kitchenpos.order.export.fetch-size:500}") final int fetchSize
+    ) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportAll(final Consumer<Order> consumer) {
+        final List<Order> chunk = new ArrayList<>(fetchSize);
+        try (Stream<Order> orders = entityManager
+            .createQuery("select o from Order o left join fetch o.orderTable order by o.orderDateTime, o.id", Order.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+            orders.forEach(order -> {
+                chunk.add(order);
+                if (chunk.size() == fetchSize) {
+                    export(chunk, consumer);
+                }
+            });
+        }
+        export(chunk, consumer);
+    }
+
+    private void export(final List<Order> chunk, final Consumer<Order> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery("select o from Order o"
+                + " left join fetch o.orderLineItems oli"
+                + " left join fetch oli.menu m"
+                + " left join fetch m.menuGroup"
+                + " where o.id in :ids", Order.class)
+            .setParameter("ids", chunk.stream().map(Order::getId).toList())
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+        chunk.forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+    }
+}
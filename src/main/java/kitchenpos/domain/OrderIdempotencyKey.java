@@ -0,0 +1,63 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "order_idempotency_key")
+@Entity
+public class OrderIdempotencyKey implements Persistable<String> {
+    @Column(name = "idempotency_key")
+    @Id
+    private String idempotencyKey;
+
+    @Column(name = "order_id", columnDefinition = "binary(16)", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean persisted;
+
+    protected OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(final String idempotencyKey, final UUID orderId, final LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.orderId = orderId;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :createdAt")
+    int deleteAllByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
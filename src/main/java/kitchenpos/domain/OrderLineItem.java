@@ -30,13 +30,16 @@ public class OrderLineItem {
     )
     private Menu menu;
 
+    @Column(name = "menu_name", nullable = false)
+    private String menuName;
+
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
     @Transient
     private UUID menuId;
 
-    @Transient
+    @Column(name = "price", nullable = false)
     private BigDecimal price;
 
     public OrderLineItem() {
@@ -58,6 +61,14 @@ public class OrderLineItem {
         this.menu = menu;
     }
 
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public void setMenuName(final String menuName) {
+        this.menuName = menuName;
+    }
+
     public long getQuantity() {
         return quantity;
     }
@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderLineItemView(UUID orderId, UUID menuId, String menuName, long quantity, BigDecimal price) {
+}
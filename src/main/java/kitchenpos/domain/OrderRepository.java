@@ -1,9 +1,68 @@
 package kitchenpos.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderExportRepository {
+    @EntityGraph(attributePaths = {"orderLineItems", "orderLineItems.menu", "orderTable"})
+    List<Order> findAllByStatusInOrderByOrderDateTime(Collection<OrderStatus> statuses);
+
+    @Modifying
+    @Query("update Order o set o.status = :to, o.version = o.version + 1"
+        + " where o.id = :id and o.type in :types and o.status = :from")
+    int updateStatus(
+        @Param("id") UUID id,
+        @Param("types") Collection<OrderType> types,
+        @Param("from") OrderStatus from,
+        @Param("to") OrderStatus to
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to, o.version = o.version + 1"
+        + " where o.id in :ids and o.status = :from")
+    int updateStatuses(
+        @Param("ids") Collection<UUID> ids,
+        @Param("from") OrderStatus from,
+        @Param("to") OrderStatus to
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids")
+    List<Order> findAllForUpdateByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new kitchenpos.domain.OrderLineItemView(o.id, oli.menu.id, oli.menuName, oli.quantity, oli.price)"
+        + " from Order o join o.orderLineItems oli"
+        + " where o.id in :orderIds"
+        + " order by oli.seq")
+    List<OrderLineItemView> findAllLineItemViewsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Query("select o from Order o"
+        + " where (:status is null or o.status = :status)"
+        + " and (:type is null or o.type = :type)"
+        + " and (:from is null or o.orderDateTime >= :from)"
+        + " and (:to is null or o.orderDateTime < :to)"
+        + " and (:cursorDateTime is null"
+        + " or o.orderDateTime < :cursorDateTime"
+        + " or (o.orderDateTime = :cursorDateTime and o.id < :cursorId))"
+        + " order by o.orderDateTime desc, o.id desc")
+    List<Order> findAllBefore(
+        @Param("status") OrderStatus status,
+        @Param("type") OrderType type,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("cursorDateTime") LocalDateTime cursorDateTime,
+        @Param("cursorId") UUID cursorId,
+        Pageable pageable
+    );
 }
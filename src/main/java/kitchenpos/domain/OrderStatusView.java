@@ -0,0 +1,16 @@
+package kitchenpos.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderStatusView(UUID orderId, OrderType type, OrderStatus status, UUID orderTableId) {
+    public static OrderStatusView from(final Order order) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderStatusView(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            Objects.isNull(orderTable) ? null : orderTable.getId()
+        );
+    }
+}
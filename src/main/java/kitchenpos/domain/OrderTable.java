@@ -1,9 +1,11 @@
 package kitchenpos.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.UUID;
 
@@ -23,6 +25,13 @@ public class OrderTable {
     @Column(name = "occupied", nullable = false)
     private boolean occupied;
 
+    @Column(name = "open_order_count", nullable = false)
+    private int openOrderCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public OrderTable() {
     }
 
@@ -57,4 +66,17 @@ public class OrderTable {
     public void setOccupied(final boolean occupied) {
         this.occupied = occupied;
     }
+
+    @JsonIgnore
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final int openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -1,8 +1,21 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, UUID> {
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount - :count, t.version = t.version + 1"
+        + " where t.id = :id")
+    int decreaseOpenOrderCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.numberOfGuests = 0, t.occupied = false, t.version = t.version + 1"
+        + " where t.id in :ids and t.openOrderCount = 0")
+    int releaseAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -21,6 +22,10 @@ public class Product {
     @Column(name = "price", nullable = false)
     private BigDecimal price;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Product() {
     }
 
@@ -47,4 +52,8 @@ public class Product {
     public void setPrice(final BigDecimal price) {
         this.price = price;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,136 @@
+package kitchenpos.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+public class AhoCorasickMatcher {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final int[] offsets;
+    private final char[] labels;
+    private final int[] targets;
+    private final int[] failures;
+    private final int[] depths;
+    private final int[] outputs;
+
+    public AhoCorasickMatcher(final Collection<String> words) {
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<Boolean> terminals = new ArrayList<>();
+        final List<Integer> stateDepths = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        terminals.add(false);
+        stateDepths.add(0);
+        for (final String word : words) {
+            if (word.isBlank()) {
+                continue;
+            }
+            int state = ROOT;
+            for (final char c : word.strip().toCharArray()) {
+                final char label = Character.toLowerCase(c);
+                Integer next = transitions.get(state).get(label);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(label, next);
+                    transitions.add(new TreeMap<>());
+                    terminals.add(false);
+                    stateDepths.add(stateDepths.get(state) + 1);
+                }
+                state = next;
+            }
+            terminals.set(state, true);
+        }
+
+        final int size = transitions.size();
+        this.offsets = new int[size + 1];
+        for (int state = 0; state < size; state++) {
+            offsets[state + 1] = offsets[state] + transitions.get(state).size();
+        }
+        this.labels = new char[offsets[size]];
+        this.targets = new int[offsets[size]];
+        for (int state = 0; state < size; state++) {
+            int index = offsets[state];
+            for (final Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                labels[index] = transition.getKey();
+                targets[index] = transition.getValue();
+                index++;
+            }
+        }
+
+        this.failures = new int[size];
+        this.depths = new int[size];
+        this.outputs = new int[size];
+        for (int state = 0; state < size; state++) {
+            depths[state] = stateDepths.get(state);
+        }
+        outputs[ROOT] = NONE;
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int index = offsets[ROOT]; index < offsets[ROOT + 1]; index++) {
+            failures[targets[index]] = ROOT;
+            outputs[targets[index]] = terminals.get(targets[index]) ? targets[index] : NONE;
+            queue.add(targets[index]);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int index = offsets[state]; index < offsets[state + 1]; index++) {
+                final int child = targets[index];
+                final int failure = next(failures[state], labels[index]);
+                failures[child] = failure;
+                outputs[child] = terminals.get(child) ? child : outputs[failure];
+                queue.add(child);
+            }
+        }
+    }
+
+    public boolean matches(final CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            for (int output = outputs[state]; output != NONE; output = outputs[failures[output]]) {
+                if (isWordBoundary(text, i - depths[output]) && isWordBoundary(text, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordBoundary(final CharSequence text, final int index) {
+        return index < 0 || index >= text.length() || !Character.isLetter(text.charAt(index));
+    }
+
+    private int next(int state, final char label) {
+        while (true) {
+            final int target = transition(state, label);
+            if (target != NONE) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    private int transition(final int state, final char label) {
+        int low = offsets[state];
+        int high = offsets[state + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char candidate = labels[mid];
+            if (candidate < label) {
+                low = mid + 1;
+            } else if (candidate > label) {
+                high = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return NONE;
+    }
+}
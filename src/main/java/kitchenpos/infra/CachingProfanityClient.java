@@ -0,0 +1,69 @@
+package kitchenpos.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+public class CachingProfanityClient implements ProfanityClient {
+    private final ProfanityClient delegate;
+    private final Cache<String, Boolean> verdicts;
+
+    public CachingProfanityClient(
+        final ProfanityClient delegate,
+        final long maximumSize,
+        final Duration expireAfterWrite,
+        final MeterRegistry meterRegistry
+    ) {
+        this(delegate, maximumSize, expireAfterWrite, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingProfanityClient(
+        final ProfanityClient delegate,
+        final long maximumSize,
+        final Duration expireAfterWrite,
+        final MeterRegistry meterRegistry,
+        final Ticker ticker
+    ) {
+        this.delegate = delegate;
+        this.verdicts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verdicts, "profanity");
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return verdicts.get(text, delegate::containsProfanity);
+    }
+
+    @Override
+    public Map<String, Boolean> containsProfanityAll(final Collection<String> texts) {
+        final Map<String, Boolean> cached = verdicts.getAll(
+            new LinkedHashSet<>(texts),
+            misses -> delegate.containsProfanityAll(List.copyOf(misses))
+        );
+        final Map<String, Boolean> ordered = new LinkedHashMap<>();
+        for (final String text : texts) {
+            ordered.put(text, cached.get(text));
+        }
+        return ordered;
+    }
+
+    public CacheStats stats() {
+        return verdicts.stats();
+    }
+}
@@ -0,0 +1,103 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(
+        final String name,
+        final int failureThreshold,
+        final Duration openDuration,
+        final MeterRegistry meterRegistry
+    ) {
+        this(name, failureThreshold, openDuration, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(
+        final String name,
+        final int failureThreshold,
+        final Duration openDuration,
+        final MeterRegistry meterRegistry,
+        final LongSupplier nanoClock
+    ) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("kitchenpos.circuit_breaker.state", this, breaker -> breaker.getState().ordinal())
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    yield false;
+                }
+                transitionTo(State.HALF_OPEN);
+                probing = true;
+                yield true;
+            }
+            case HALF_OPEN -> {
+                if (probing) {
+                    yield false;
+                }
+                probing = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probing = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        probing = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            openedAt = nanoClock.getAsLong();
+            consecutiveFailures = 0;
+            if (state != State.OPEN) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(final State next) {
+        log.info("circuit breaker {} changed from {} to {}", name, state, next);
+        meterRegistry.counter("kitchenpos.circuit_breaker.transitions", "name", name, "state", next.name()).increment();
+        state = next;
+    }
+}
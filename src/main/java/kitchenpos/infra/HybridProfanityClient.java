@@ -0,0 +1,54 @@
+package kitchenpos.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HybridProfanityClient implements ProfanityClient {
+    private static final Logger log = LoggerFactory.getLogger(HybridProfanityClient.class);
+
+    private final ProfanityClient localClient;
+    private final ProfanityClient remoteClient;
+
+    public HybridProfanityClient(final ProfanityClient localClient, final ProfanityClient remoteClient) {
+        this.localClient = localClient;
+        this.remoteClient = remoteClient;
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        if (localClient.containsProfanity(text)) {
+            return true;
+        }
+        try {
+            return remoteClient.containsProfanity(text);
+        } catch (final RestClientException e) {
+            log.warn("remote profanity check failed, falling back to the local verdict: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Map<String, Boolean> containsProfanityAll(final Collection<String> texts) {
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>(localClient.containsProfanityAll(texts));
+        final List<String> cleanTexts = verdicts.entrySet()
+            .stream()
+            .filter(verdict -> !verdict.getValue())
+            .map(Map.Entry::getKey)
+            .toList();
+        if (cleanTexts.isEmpty()) {
+            return verdicts;
+        }
+        try {
+            verdicts.putAll(remoteClient.containsProfanityAll(cleanTexts));
+        } catch (final RestClientException e) {
+            log.warn("remote profanity check failed, falling back to the local verdicts: {}", e.getMessage());
+        }
+        return verdicts;
+    }
+}
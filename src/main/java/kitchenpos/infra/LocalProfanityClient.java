@@ -0,0 +1,37 @@
+package kitchenpos.infra;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class LocalProfanityClient implements ProfanityClient {
+    private final AhoCorasickMatcher matcher;
+
+    public LocalProfanityClient(final AhoCorasickMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    public static LocalProfanityClient from(final Resource words) {
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(words.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            final List<String> lines = reader.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+            return new LocalProfanityClient(new AhoCorasickMatcher(lines));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return matcher.matches(text);
+    }
+}
@@ -0,0 +1,51 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@Component
+public class OptimisticLockRetryAspect {
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration backoff;
+
+    public OptimisticLockRetryAspect(
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.optimistic-lock.backoff:10ms}") final Duration backoff
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.backoff = backoff;
+    }
+
+    @Around("@annotation(retry)")
+    public Object retry(final ProceedingJoinPoint joinPoint, final OptimisticLockRetry retry) throws Throwable {
+        final String method = joinPoint.getSignature().toShortString();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("optimistic lock conflict on {}, attempt {}", method, attempt);
+                meterRegistry.counter("kitchenpos.optimistic_lock.retries", "method", method).increment();
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoff.toMillis() * attempt + 1));
+            }
+        }
+    }
+}
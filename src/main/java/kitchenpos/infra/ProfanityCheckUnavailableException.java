@@ -0,0 +1,9 @@
+package kitchenpos.infra;
+
+import org.springframework.web.client.RestClientException;
+
+public class ProfanityCheckUnavailableException extends RestClientException {
+    public ProfanityCheckUnavailableException(final String message) {
+        super(message);
+    }
+}
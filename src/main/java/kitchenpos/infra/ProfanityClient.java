@@ -0,0 +1,18 @@
+package kitchenpos.infra;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+public interface ProfanityClient {
+    boolean containsProfanity(String text);
+
+    default Map<String, Boolean> containsProfanityAll(final Collection<String> texts) {
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        for (final String text : new LinkedHashSet<>(texts)) {
+            verdicts.put(text, containsProfanity(text));
+        }
+        return verdicts;
+    }
+}
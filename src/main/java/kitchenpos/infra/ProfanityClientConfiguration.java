@@ -0,0 +1,37 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@EnableConfigurationProperties(PurgomalumProperties.class)
+@Configuration
+public class ProfanityClientConfiguration {
+    @Primary
+    @Bean
+    public ProfanityClient profanityClient(
+        final PurgomalumClient purgomalumClient,
+        @Value("${kitchenpos.profanity.strategy:remote}") final ProfanityCheckStrategy strategy,
+        @Value("${kitchenpos.profanity.words:classpath:profanity/words.txt}") final Resource words,
+        @Value("${kitchenpos.profanity.cache.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.profanity.cache.expire-after-write:24h}") final Duration expireAfterWrite,
+        final MeterRegistry meterRegistry
+    ) {
+        if (strategy == ProfanityCheckStrategy.LOCAL) {
+            return LocalProfanityClient.from(words);
+        }
+        final ProfanityClient remoteClient = new CachingProfanityClient(
+            purgomalumClient, maximumSize, expireAfterWrite, meterRegistry
+        );
+        if (strategy == ProfanityCheckStrategy.HYBRID) {
+            return new HybridProfanityClient(LocalProfanityClient.from(words), remoteClient);
+        }
+        return remoteClient;
+    }
+}
@@ -1,25 +1,200 @@
 package kitchenpos.infra;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class PurgomalumClient {
+public class PurgomalumClient implements ProfanityClient, DisposableBean {
+    private static final String LATENCY = "kitchenpos.profanity.remote.latency";
+
+    private final HttpComponentsClientHttpRequestFactory requestFactory;
     private final RestTemplate restTemplate;
+    private final String url;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final Duration bulkheadWait;
+    private final Duration bulkTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public PurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final PurgomalumProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.requestFactory = requestFactory(properties);
+        this.restTemplate = restTemplateBuilder.requestFactory(() -> requestFactory).build();
+        this.url = properties.url();
+        this.maxConcurrency = properties.maxConcurrency();
+        this.permits = new Semaphore(maxConcurrency);
+        this.bulkheadWait = properties.bulkheadWait();
+        this.bulkTimeout = properties.bulkTimeout();
+        this.circuitBreaker = new CircuitBreaker(
+            "purgomalum", properties.failureThreshold(), properties.openDuration(), meterRegistry
+        );
+        this.meterRegistry = meterRegistry;
+    }
 
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    private static HttpComponentsClientHttpRequestFactory requestFactory(final PurgomalumProperties properties) {
+        final Timeout connectTimeout = Timeout.ofMilliseconds(properties.connectTimeout().toMillis());
+        final Timeout readTimeout = Timeout.ofMilliseconds(properties.readTimeout().toMillis());
+        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setConnectTimeout(connectTimeout)
+            .setSocketTimeout(readTimeout)
+            .build();
+        final RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(connectTimeout)
+            .setResponseTimeout(readTimeout)
+            .build();
+        return new HttpComponentsClientHttpRequestFactory(
+            HttpClients.custom()
+                .setConnectionManager(
+                    PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.maxConnections())
+                        .setMaxConnPerRoute(properties.maxConnections())
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build()
+                )
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build()
+        );
     }
 
+    @Override
     public boolean containsProfanity(final String text) {
-        final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
+        if (!tryAcquirePermit(bulkheadWait.toNanos())) {
+            throw new ProfanityCheckUnavailableException("too many concurrent profanity checks");
+        }
+        try {
+            return request(text);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public Map<String, Boolean> containsProfanityAll(final Collection<String> texts) {
+        final Set<String> uniqueTexts = new LinkedHashSet<>(texts);
+        final Queue<String> pending = new ConcurrentLinkedQueue<>(uniqueTexts);
+        final Map<String, Boolean> found = new ConcurrentHashMap<>();
+        final long deadline = System.nanoTime() + bulkTimeout.toNanos();
+        final List<Future<Void>> workers = new ArrayList<>();
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < Math.min(maxConcurrency, uniqueTexts.size()); i++) {
+                workers.add(executor.submit(() -> drain(pending, found, deadline)));
+            }
+        }
+        workers.forEach(PurgomalumClient::join);
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        uniqueTexts.forEach(text -> verdicts.put(text, found.get(text)));
+        return verdicts;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        requestFactory.destroy();
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Void drain(final Queue<String> pending, final Map<String, Boolean> found, final long deadline) {
+        String text;
+        while ((text = pending.poll()) != null) {
+            if (!tryAcquirePermit(deadline - System.nanoTime())) {
+                pending.clear();
+                throw new ProfanityCheckUnavailableException("profanity check batch timed out");
+            }
+            try {
+                found.put(text, request(text));
+            } catch (final RuntimeException e) {
+                pending.clear();
+                throw e;
+            } finally {
+                permits.release();
+            }
+        }
+        return null;
+    }
+
+    private boolean tryAcquirePermit(final long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean request(final String text) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ProfanityCheckUnavailableException("profanity check circuit is open");
+        }
+        final URI uri = UriComponentsBuilder.fromUriString(url)
+            .path("/service/containsprofanity")
             .queryParam("text", text)
             .build()
             .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final boolean verdict = Boolean.parseBoolean(restTemplate.getForObject(uri, String.class));
+            circuitBreaker.onSuccess();
+            sample.stop(meterRegistry.timer(LATENCY, "outcome", "success"));
+            return verdict;
+        } catch (final RuntimeException e) {
+            circuitBreaker.onFailure();
+            sample.stop(meterRegistry.timer(LATENCY, "outcome", "error"));
+            throw e;
+        }
+    }
+
+    private static <T> T join(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 }
@@ -0,0 +1,20 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kitchenpos.profanity.remote")
+public record PurgomalumProperties(
+    @DefaultValue("https://www.purgomalum.com") String url,
+    @DefaultValue("1s") Duration connectTimeout,
+    @DefaultValue("2s") Duration readTimeout,
+    @DefaultValue("32") int maxConnections,
+    @DefaultValue("16") int maxConcurrency,
+    @DefaultValue("100ms") Duration bulkheadWait,
+    @DefaultValue("5s") Duration bulkTimeout,
+    @DefaultValue("5") int failureThreshold,
+    @DefaultValue("30s") Duration openDuration
+) {
+}
@@ -0,0 +1,50 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+
+public class QueryCountInterceptor implements HandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(QueryCountInterceptor.class);
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountInterceptor(final QueryCounter queryCounter, final MeterRegistry meterRegistry) {
+        this.queryCounter = queryCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        queryCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler,
+        final Exception ex
+    ) {
+        final long count = queryCounter.getCount();
+        queryCounter.clear();
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final String uri = Objects.isNull(pattern) ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("kitchenpos.http.queries")
+            .description("SQL statements executed per request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(count);
+        log.debug("{} {} executed {} queries", request.getMethod(), uri, count);
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.infra;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCounter implements StatementInspector {
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(final String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    public void start() {
+        count.get()[0] = 0;
+    }
+
+    public long getCount() {
+        return count.get()[0];
+    }
+
+    public void clear() {
+        count.remove();
+    }
+}
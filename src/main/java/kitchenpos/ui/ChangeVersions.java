@@ -0,0 +1,26 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.Aggregate;
+import kitchenpos.application.ChangeVersionService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChangeVersions {
+    private final ChangeVersionService changeVersionService;
+
+    public ChangeVersions(final ChangeVersionService changeVersionService) {
+        this.changeVersionService = changeVersionService;
+    }
+
+    public long version(final Aggregate aggregate) {
+        return changeVersionService.version(aggregate);
+    }
+
+    public String eTag(final Aggregate aggregate) {
+        return eTag(aggregate, version(aggregate));
+    }
+
+    public String eTag(final Aggregate aggregate, final long version) {
+        return "\"" + aggregate.name().toLowerCase() + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.Aggregate;
+import kitchenpos.application.MenuService;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class MenuCatalog {
+    private final Object renderLock = new Object();
+    private final MenuService menuService;
+    private final ChangeVersions changeVersions;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public MenuCatalog(
+        final MenuService menuService,
+        final ChangeVersions changeVersions,
+        final ObjectMapper objectMapper
+    ) {
+        this.menuService = menuService;
+        this.changeVersions = changeVersions;
+        this.objectMapper = objectMapper;
+    }
+
+    public Snapshot get() {
+        final Snapshot cached = snapshot;
+        if (Objects.nonNull(cached) && cached.version() == changeVersions.version(Aggregate.MENU)) {
+            return cached;
+        }
+        synchronized (renderLock) {
+            final long version = changeVersions.version(Aggregate.MENU);
+            final Snapshot current = snapshot;
+            if (Objects.nonNull(current) && current.version() == version) {
+                return current;
+            }
+            final Snapshot rendered = new Snapshot(version, changeVersions.eTag(Aggregate.MENU, version), render());
+            snapshot = rendered;
+            return rendered;
+        }
+    }
+
+    private byte[] render() {
+        try {
+            return objectMapper.writeValueAsBytes(menuService.findAll());
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Snapshot(long version, String eTag, byte[] body) {
+    }
+}
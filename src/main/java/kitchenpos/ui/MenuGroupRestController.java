@@ -1,13 +1,16 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.Aggregate;
 import kitchenpos.application.MenuGroupService;
 import kitchenpos.domain.MenuGroup;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -16,9 +19,11 @@ import java.util.List;
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final ChangeVersions changeVersions;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(final MenuGroupService menuGroupService, final ChangeVersions changeVersions) {
         this.menuGroupService = menuGroupService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -29,7 +34,14 @@ public class MenuGroupRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuGroup>> findAll() {
-        return ResponseEntity.ok(menuGroupService.findAll());
+    public ResponseEntity<List<MenuGroup>> findAll(final WebRequest webRequest) {
+        final String eTag = changeVersions.eTag(Aggregate.MENU_GROUP);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(eTag)
+            .body(menuGroupService.findAll());
     }
 }
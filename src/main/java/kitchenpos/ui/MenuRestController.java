@@ -1,7 +1,11 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.Aggregate;
+import kitchenpos.application.BulkResult;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -19,9 +24,17 @@ import java.util.UUID;
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final MenuCatalog menuCatalog;
+    private final ChangeVersions changeVersions;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+        final MenuService menuService,
+        final MenuCatalog menuCatalog,
+        final ChangeVersions changeVersions
+    ) {
         this.menuService = menuService;
+        this.menuCatalog = menuCatalog;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -31,6 +44,11 @@ public class MenuRestController {
             .body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkResult<Menu>>> createAll(@RequestBody final List<Menu> requests) {
+        return ResponseEntity.ok(menuService.createAll(requests));
+    }
+
     @PutMapping("/{menuId}/price")
     public ResponseEntity<Menu> changePrice(@PathVariable final UUID menuId, @RequestBody final Menu request) {
         return ResponseEntity.ok(menuService.changePrice(menuId, request));
@@ -47,7 +65,15 @@ public class MenuRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<byte[]> findAll(final WebRequest webRequest) {
+        if (webRequest.checkNotModified(changeVersions.eTag(Aggregate.MENU))) {
+            return null;
+        }
+        final MenuCatalog.Snapshot catalog = menuCatalog.get();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache())
+            .eTag(catalog.eTag())
+            .body(catalog.body());
     }
 }
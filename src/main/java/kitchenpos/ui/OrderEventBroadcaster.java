@@ -0,0 +1,96 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class OrderEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+    private static final String EVENT_NAME = "order-status-changed";
+
+    private final Set<OrderEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final Duration timeout;
+
+    public OrderEventBroadcaster(
+        @Value("${kitchenpos.order.events.buffer-size:64}") final int bufferSize,
+        @Value("${kitchenpos.order.events.timeout:30m}") final Duration timeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe(final OrderType type, final UUID orderTableId) {
+        final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        final OrderEventSubscription subscription = new OrderEventSubscription(emitter, type, orderTableId, bufferSize);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void broadcast(final OrderStatusChangedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        for (final OrderEventSubscription subscription : subscriptions) {
+            if (!subscription.matches(event)) {
+                continue;
+            }
+            if (!subscription.offer(event)) {
+                log.warn("order event subscriber is too slow, closing the stream");
+                close(subscription);
+                continue;
+            }
+            executor.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(final OrderEventSubscription subscription) {
+        if (!subscription.tryStartDrain()) {
+            return;
+        }
+        try {
+            OrderStatusChangedEvent event;
+            while ((event = subscription.poll()) != null) {
+                subscription.getEmitter().send(
+                    SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(event.orderId().toString())
+                        .data(event)
+                );
+            }
+        } catch (final IOException | IllegalStateException e) {
+            close(subscription);
+            return;
+        } finally {
+            subscription.finishDrain();
+        }
+        if (subscription.hasPending()) {
+            executor.execute(() -> drain(subscription));
+        }
+    }
+
+    private void close(final OrderEventSubscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.getEmitter().complete();
+    }
+}
@@ -0,0 +1,62 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class OrderEventSubscription {
+    private final SseEmitter emitter;
+    private final OrderType type;
+    private final UUID orderTableId;
+    private final Queue<OrderStatusChangedEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    OrderEventSubscription(
+        final SseEmitter emitter,
+        final OrderType type,
+        final UUID orderTableId,
+        final int bufferSize
+    ) {
+        this.emitter = emitter;
+        this.type = type;
+        this.orderTableId = orderTableId;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    boolean matches(final OrderStatusChangedEvent event) {
+        if (Objects.nonNull(type) && type != event.type()) {
+            return false;
+        }
+        return Objects.isNull(orderTableId) || orderTableId.equals(event.orderTableId());
+    }
+
+    boolean offer(final OrderStatusChangedEvent event) {
+        return buffer.offer(event);
+    }
+
+    OrderStatusChangedEvent poll() {
+        return buffer.poll();
+    }
+
+    boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+}
@@ -1,7 +1,19 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.BulkResult;
+import kitchenpos.application.OrderCursor;
+import kitchenpos.application.OrderIdempotencyService;
+import kitchenpos.application.OrderPage;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderStatusChangeRequest;
+import kitchenpos.application.OrderSummary;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,24 +21,53 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderIdempotencyService orderIdempotencyService,
+        final OrderEventBroadcaster orderEventBroadcaster,
+        final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.orderEventBroadcaster = orderEventBroadcaster;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
+    public ResponseEntity<Order> create(
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        final Order response = Objects.isNull(idempotencyKey)
+            ? orderService.create(request)
+            : orderIdempotencyService.create(idempotencyKey, request);
         return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
             .body(response);
     }
@@ -56,8 +97,94 @@ public class OrderRestController {
         return ResponseEntity.ok(orderService.complete(orderId));
     }
 
+    @PutMapping("/status")
+    public ResponseEntity<List<BulkResult<UUID>>> changeStatuses(@RequestBody final OrderStatusChangeRequest request) {
+        return ResponseEntity.ok(orderService.changeStatuses(request));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<Order>> findAll(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        if (Objects.isNull(cursor) && Objects.isNull(size)) {
+            return ResponseEntity.ok(orderService.findAll(status, type, from, to));
+        }
+        final OrderPage<Order> page = orderService.findAll(
+            status,
+            type,
+            from,
+            to,
+            Objects.isNull(cursor) ? null : OrderCursor.decode(cursor),
+            Objects.requireNonNullElse(size, DEFAULT_PAGE_SIZE)
+        );
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR, page.nextCursor().encode());
+        }
+        return response.body(page.orders());
+    }
+
+    @GetMapping(params = "view=slim")
+    public ResponseEntity<List<OrderSummary>> findSummaries(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "50") final int size
+    ) {
+        final OrderPage<OrderSummary> page = orderService.findSummaries(
+            status,
+            type,
+            from,
+            to,
+            Objects.isNull(cursor) ? null : OrderCursor.decode(cursor),
+            size
+        );
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR, page.nextCursor().encode());
+        }
+        return response.body(page.orders());
+    }
+
+    @GetMapping("/kitchen-board")
+    public ResponseEntity<List<Order>> findKitchenBoard() {
+        return ResponseEntity.ok(orderService.findKitchenBoard());
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId
+    ) {
+        return orderEventBroadcaster.subscribe(type, orderTableId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                orderService.export(order -> write(generator, order));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private void write(final JsonGenerator generator, final Order order) {
+        try {
+            generator.writeObject(order);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,7 +1,9 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.Aggregate;
 import kitchenpos.application.OrderTableService;
 import kitchenpos.domain.OrderTable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -19,9 +22,11 @@ import java.util.UUID;
 @RestController
 public class OrderTableRestController {
     private final OrderTableService orderTableService;
+    private final ChangeVersions changeVersions;
 
-    public OrderTableRestController(final OrderTableService orderTableService) {
+    public OrderTableRestController(final OrderTableService orderTableService, final ChangeVersions changeVersions) {
         this.orderTableService = orderTableService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -50,7 +55,14 @@ public class OrderTableRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderTable>> findAll() {
-        return ResponseEntity.ok(orderTableService.findAll());
+    public ResponseEntity<List<OrderTable>> findAll(final WebRequest webRequest) {
+        final String eTag = changeVersions.eTag(Aggregate.ORDER_TABLE);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(eTag)
+            .body(orderTableService.findAll());
     }
 }
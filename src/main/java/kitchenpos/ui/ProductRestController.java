@@ -1,7 +1,11 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.Aggregate;
+import kitchenpos.application.BulkResult;
 import kitchenpos.application.ProductService;
+import kitchenpos.domain.Menu;
 import kitchenpos.domain.Product;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -19,9 +24,11 @@ import java.util.UUID;
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final ChangeVersions changeVersions;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(final ProductService productService, final ChangeVersions changeVersions) {
         this.productService = productService;
+        this.changeVersions = changeVersions;
     }
 
     @PostMapping
@@ -31,13 +38,30 @@ public class ProductRestController {
             .body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkResult<Product>>> createAll(@RequestBody final List<Product> requests) {
+        return ResponseEntity.ok(productService.createAll(requests));
+    }
+
+    @PutMapping("/prices")
+    public ResponseEntity<List<Menu>> changePrices(@RequestBody final List<Product> requests) {
+        return ResponseEntity.ok(productService.changePrices(requests));
+    }
+
     @PutMapping("/{productId}/price")
     public ResponseEntity<Product> changePrice(@PathVariable final UUID productId, @RequestBody final Product request) {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
     @GetMapping
-    public ResponseEntity<List<Product>> findAll() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<List<Product>> findAll(final WebRequest webRequest) {
+        final String eTag = changeVersions.eTag(Aggregate.PRODUCT);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(eTag)
+            .body(productService.findAll());
     }
 }
@@ -0,0 +1,23 @@
+create table delivery_dispatch
+(
+    id               binary(16)     not null,
+    order_id         binary(16)     not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    status           varchar(255)   not null,
+    attempts         integer        not null,
+    next_attempt_at  datetime(6)    not null,
+    last_error       varchar(255),
+    created_at       datetime(6)    not null,
+    sent_at          datetime(6),
+    version          bigint         not null,
+    primary key (id)
+) engine = InnoDB;
+
+alter table delivery_dispatch
+    add constraint fk_delivery_dispatch_to_orders
+        foreign key (order_id)
+            references orders (id);
+
+create index idx_delivery_dispatch_status_next_attempt_at
+    on delivery_dispatch (status, next_attempt_at);
@@ -0,0 +1,10 @@
+alter table order_line_item
+    add column menu_name varchar(255);
+
+update order_line_item
+set menu_name = (select m.name
+                 from menu m
+                 where m.id = order_line_item.menu_id);
+
+alter table order_line_item
+    modify menu_name varchar(255) not null;
@@ -0,0 +1,12 @@
+create table change_version
+(
+    aggregate varchar(255) not null,
+    version   bigint       not null,
+    primary key (aggregate)
+) engine = InnoDB;
+
+insert into change_version (aggregate, version)
+values ('MENU_GROUP', 0),
+       ('PRODUCT', 0),
+       ('MENU', 0),
+       ('ORDER_TABLE', 0);
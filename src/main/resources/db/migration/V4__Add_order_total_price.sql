@@ -0,0 +1,15 @@
+alter table order_line_item
+    add column price decimal(19, 2) not null default 0;
+
+update order_line_item
+set price = (select m.price
+             from menu m
+             where m.id = order_line_item.menu_id);
+
+alter table orders
+    add column total_price decimal(19, 2) not null default 0;
+
+update orders
+set total_price = (select coalesce(sum(oli.price * oli.quantity), 0)
+                   from order_line_item oli
+                   where oli.order_id = orders.id);
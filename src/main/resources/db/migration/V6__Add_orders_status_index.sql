@@ -0,0 +1,2 @@
+create index idx_orders_status_order_date_time
+    on orders (status, order_date_time);
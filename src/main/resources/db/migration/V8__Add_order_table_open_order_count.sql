@@ -0,0 +1,11 @@
+create index idx_orders_order_table_id_status
+    on orders (order_table_id, status);
+
+alter table order_table
+    add column open_order_count int not null default 0;
+
+update order_table
+set open_order_count = (select count(*)
+                        from orders o
+                        where o.order_table_id = order_table.id
+                          and o.status <> 'COMPLETED');
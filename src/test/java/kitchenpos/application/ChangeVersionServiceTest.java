@@ -0,0 +1,58 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.utils.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@SpringBootTest
+class ChangeVersionServiceTest {
+    @Autowired
+    private ChangeVersionService changeVersionService;
+    @Autowired
+    private MenuGroupService menuGroupService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        DatabaseCleaner.clean(jdbcTemplate);
+    }
+
+    @DisplayName("변경이 커밋되면 공유 저장소의 변경 버전이 올라간다")
+    @Test
+    void increment() {
+        // given
+        long before = changeVersionService.version(Aggregate.MENU_GROUP);
+        MenuGroup request = new MenuGroup();
+        request.setName("추천메뉴");
+
+        // when
+        menuGroupService.create(request);
+
+        // then
+        assertThat(changeVersionService.version(Aggregate.MENU_GROUP)).isEqualTo(before + 1);
+    }
+
+    @DisplayName("변경이 실패하면 변경 버전은 그대로다")
+    @Test
+    void increment_rollback() {
+        // given
+        long before = changeVersionService.version(Aggregate.MENU_GROUP);
+        MenuGroup request = new MenuGroup();
+        request.setName("");
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(() -> menuGroupService.create(request));
+
+        // then
+        assertThat(changeVersionService.version(Aggregate.MENU_GROUP)).isEqualTo(before);
+    }
+}
@@ -0,0 +1,154 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryDispatch;
+import kitchenpos.domain.DeliveryDispatchRepository;
+import kitchenpos.domain.DeliveryDispatchStatus;
+import kitchenpos.domain.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static kitchenpos.fixture.OrderFixture.배달_주문_생성;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryDispatchServiceTest {
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private DeliveryDispatchRepository deliveryDispatchRepository;
+
+    private DeliveryDispatchService deliveryDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        deliveryDispatchService = new DeliveryDispatchService(
+                deliveryDispatchRepository,
+                100,
+                MAX_ATTEMPTS,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(5)
+        );
+    }
+
+    @DisplayName("주문 금액과 배달 주소로 배달 요청을 적재한다")
+    @Test
+    void enqueue() {
+        // given
+        Order order = 배달_주문_생성("가짜주소", Collections.emptyList());
+        order.setId(UUID.randomUUID());
+        order.setTotalPrice(BigDecimal.valueOf(49_000));
+        when(deliveryDispatchRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        DeliveryDispatch dispatch = deliveryDispatchService.enqueue(order);
+
+        // then
+        assertThat(dispatch.getOrderId()).isEqualTo(order.getId());
+        assertThat(dispatch.getAmount()).isEqualTo(BigDecimal.valueOf(49_000));
+        assertThat(dispatch.getDeliveryAddress()).isEqualTo("가짜주소");
+        assertThat(dispatch.getStatus()).isEqualTo(DeliveryDispatchStatus.PENDING);
+        assertThat(dispatch.getAttempts()).isZero();
+    }
+
+    @DisplayName("처리할 배달 요청을 가져오면, 임대 기간 동안 다른 처리기가 가져가지 않도록 다음 시도 시각을 미룬다")
+    @Test
+    void claimDue() {
+        // given
+        DeliveryDispatch dispatch = 배달_요청(0);
+        when(deliveryDispatchRepository.findAllDue(any(), any(), any())).thenReturn(List.of(dispatch));
+
+        // when
+        List<DeliveryDispatch> claimed = deliveryDispatchService.claimDue();
+
+        // then
+        assertThat(claimed).containsExactly(dispatch);
+        assertThat(dispatch.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+    }
+
+    @DisplayName("배달 요청에 성공하면 완료로 기록한다")
+    @Test
+    void markSent() {
+        // given
+        DeliveryDispatch dispatch = 배달_요청(1);
+        when(deliveryDispatchRepository.findById(any())).thenReturn(Optional.of(dispatch));
+
+        // when
+        deliveryDispatchService.markSent(dispatch.getId());
+
+        // then
+        assertThat(dispatch.getStatus()).isEqualTo(DeliveryDispatchStatus.SENT);
+        assertThat(dispatch.getAttempts()).isEqualTo(2);
+        assertThat(dispatch.getSentAt()).isNotNull();
+    }
+
+    @DisplayName("배달 요청에 실패하면 점점 늘어나는 간격 뒤에 다시 시도한다")
+    @Test
+    void markFailed_retry() {
+        // given
+        DeliveryDispatch dispatch = 배달_요청(0);
+        when(deliveryDispatchRepository.findById(any())).thenReturn(Optional.of(dispatch));
+
+        // when
+        DeliveryDispatchStatus status = deliveryDispatchService.markFailed(dispatch.getId(), "timeout");
+
+        // then
+        assertThat(status).isEqualTo(DeliveryDispatchStatus.PENDING);
+        assertThat(dispatch.getAttempts()).isEqualTo(1);
+        assertThat(dispatch.getLastError()).isEqualTo("timeout");
+        assertThat(dispatch.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 시도하지 않는다")
+    @Test
+    void markFailed_give_up() {
+        // given
+        DeliveryDispatch dispatch = 배달_요청(MAX_ATTEMPTS - 1);
+        when(deliveryDispatchRepository.findById(any())).thenReturn(Optional.of(dispatch));
+
+        // when
+        DeliveryDispatchStatus status = deliveryDispatchService.markFailed(dispatch.getId(), "timeout");
+
+        // then
+        assertThat(status).isEqualTo(DeliveryDispatchStatus.FAILED);
+    }
+
+    @DisplayName("재시도 간격은 시도할 때마다 늘어나되, 최대 간격을 넘지 않는다")
+    @Test
+    void backoff() {
+        // given
+        // when
+        Duration first = deliveryDispatchService.backoff(1);
+        Duration tenth = deliveryDispatchService.backoff(10);
+        Duration hundredth = deliveryDispatchService.backoff(100);
+
+        // then
+        assertThat(first).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+        assertThat(tenth).isBetween(Duration.ofSeconds(150), Duration.ofMinutes(5));
+        assertThat(hundredth).isBetween(Duration.ofSeconds(150), Duration.ofMinutes(5));
+    }
+
+    private DeliveryDispatch 배달_요청(int attempts) {
+        DeliveryDispatch dispatch = new DeliveryDispatch();
+        dispatch.setId(UUID.randomUUID());
+        dispatch.setOrderId(UUID.randomUUID());
+        dispatch.setStatus(DeliveryDispatchStatus.PENDING);
+        dispatch.setAttempts(attempts);
+        dispatch.setNextAttemptAt(LocalDateTime.now());
+        return dispatch;
+    }
+}
@@ -0,0 +1,128 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.DeliveryDispatch;
+import kitchenpos.domain.DeliveryDispatchStatus;
+import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.utils.KitchenridersTestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryDispatcherTest {
+    @Mock
+    private DeliveryDispatchService deliveryDispatchService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("적재된 배달 요청이 없으면 배달 대행사를 호출하지 않는다")
+    @Test
+    void dispatch_empty() {
+        // given
+        KitchenridersTestClient kitchenridersClient = new KitchenridersTestClient(Collections.emptySet());
+        DeliveryDispatcher dispatcher = 디스패처(kitchenridersClient);
+        when(deliveryDispatchService.claimDue()).thenReturn(Collections.emptyList());
+
+        // when
+        int dispatched = dispatcher.dispatch();
+
+        // then
+        assertThat(dispatched).isZero();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).isEmpty();
+    }
+
+    @DisplayName("배달 요청을 보내고, 성공한 요청은 완료로, 실패한 요청은 재시도 대상으로 기록한다")
+    @Test
+    void dispatch() {
+        // given
+        DeliveryDispatch 성공할_요청 = 배달_요청();
+        DeliveryDispatch 실패할_요청 = 배달_요청();
+        KitchenridersTestClient kitchenridersClient = new KitchenridersTestClient(Set.of(실패할_요청.getOrderId()));
+        DeliveryDispatcher dispatcher = 디스패처(kitchenridersClient);
+        when(deliveryDispatchService.claimDue()).thenReturn(List.of(성공할_요청, 실패할_요청));
+        when(deliveryDispatchService.markFailed(any(), any())).thenReturn(DeliveryDispatchStatus.PENDING);
+
+        // when
+        int dispatched = dispatcher.dispatch();
+
+        // then
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(kitchenridersClient.getRequestedOrderIds())
+                .containsExactlyInAnyOrder(성공할_요청.getOrderId(), 실패할_요청.getOrderId());
+        then(deliveryDispatchService).should(times(1)).markSent(성공할_요청.getId());
+        then(deliveryDispatchService).should(times(1)).markFailed(실패할_요청.getId(), "rider service unavailable");
+        assertThat(meterRegistry.counter("kitchenpos.delivery.dispatch", "result", "sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("kitchenpos.delivery.dispatch", "result", "retry").count()).isEqualTo(1);
+    }
+
+    @DisplayName("배달 대행사가 응답 제한 시간 안에 응답하지 않으면, 요청을 실패로 기록한다")
+    @Test
+    void dispatch_timeout() {
+        // given
+        DeliveryDispatch 지연될_요청 = 배달_요청();
+        CountDownLatch 응답 = new CountDownLatch(1);
+        KitchenridersClient kitchenridersClient = new KitchenridersClient() {
+            @Override
+            public void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress) {
+                try {
+                    응답.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        DeliveryDispatcher dispatcher = 디스패처(kitchenridersClient);
+        when(deliveryDispatchService.claimDue()).thenReturn(List.of(지연될_요청));
+        when(deliveryDispatchService.markFailed(any(), any())).thenReturn(DeliveryDispatchStatus.PENDING);
+
+        // when
+        int dispatched = dispatcher.dispatch();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        then(deliveryDispatchService).should(times(1)).markFailed(eq(지연될_요청.getId()), startsWith("delivery request timed out"));
+        then(deliveryDispatchService).should(never()).markSent(any());
+    }
+
+    @DisplayName("응답 제한 시간이 선점 시간보다 길면 디스패처를 만들 수 없다")
+    @Test
+    void create_timeout_exception() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DeliveryDispatcher(
+                deliveryDispatchService, new KitchenridersClient(), meterRegistry, 4,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(10)
+        ));
+    }
+
+    private DeliveryDispatcher 디스패처(KitchenridersClient kitchenridersClient) {
+        return new DeliveryDispatcher(
+                deliveryDispatchService, kitchenridersClient, meterRegistry, 4,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMillis(200)
+        );
+    }
+
+    private DeliveryDispatch 배달_요청() {
+        DeliveryDispatch dispatch = new DeliveryDispatch();
+        dispatch.setId(UUID.randomUUID());
+        dispatch.setOrderId(UUID.randomUUID());
+        dispatch.setAmount(BigDecimal.valueOf(16_000));
+        dispatch.setDeliveryAddress("가짜주소");
+        dispatch.setStatus(DeliveryDispatchStatus.PENDING);
+        return dispatch;
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuComponentCost;
+import kitchenpos.domain.MenuRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuComponentCostReconcilerTest {
+    @Mock
+    private MenuRepository menuRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private MenuComponentCostReconciler reconciler;
+
+    @DisplayName("저장된 구성 상품 가격의 합이 실제 합과 같으면 아무것도 변경하지 않는다")
+    @Test
+    void reconcile_no_drift() {
+        //given
+        when(menuRepository.findAllComponentCostDrifts()).thenReturn(Collections.emptyList());
+
+        //when
+        List<MenuComponentCost> drifts = reconciler.reconcile();
+
+        //then
+        assertThat(drifts).isEmpty();
+        then(menuRepository).should(never()).updateComponentCost(any(), any());
+        then(menuRepository).should(never()).hideAllByIdIn(any());
+    }
+
+    @DisplayName("저장된 구성 상품 가격의 합이 실제 합과 다르면 바로잡고, 메뉴 가격이 실제 합을 초과하면 메뉴를 숨긴다")
+    @Test
+    void reconcile() {
+        //given
+        MenuComponentCost underpriced = new MenuComponentCost(
+                UUID.randomUUID(), BigDecimal.valueOf(10_000), BigDecimal.valueOf(12_000), BigDecimal.valueOf(11_000)
+        );
+        MenuComponentCost overpriced = new MenuComponentCost(
+                UUID.randomUUID(), BigDecimal.valueOf(16_000), BigDecimal.valueOf(17_000), BigDecimal.valueOf(15_000)
+        );
+        when(menuRepository.findAllComponentCostDrifts()).thenReturn(List.of(underpriced, overpriced));
+
+        //when
+        reconciler.reconcile();
+
+        //then
+        then(menuRepository).should(times(1)).updateComponentCost(underpriced.menuId(), BigDecimal.valueOf(11_000));
+        then(menuRepository).should(times(1)).updateComponentCost(overpriced.menuId(), BigDecimal.valueOf(15_000));
+        then(menuRepository).should(times(1)).hideAllByIdIn(List.of(overpriced.menuId()));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -22,6 +23,8 @@ import static org.mockito.BDDMockito.*;
 class MenuGroupServiceTest {
     @Mock
     private MenuGroupRepository menuGroupRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private MenuGroupService menuGroupService;
@@ -1,6 +1,7 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
 import kitchenpos.utils.MenuGroupTestRepository;
@@ -15,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -23,8 +25,10 @@ import static kitchenpos.fixture.MenuFixture.*;
 import static kitchenpos.fixture.ProductFixture.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -38,6 +42,8 @@ class MenuServiceMockTest {
     private ProductTestRepository productRepository;
     @Mock
     private PurgomalumTestClient purgomalumTestClient;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private MenuService menuService;
 
@@ -59,6 +65,20 @@ class MenuServiceMockTest {
             then(menuRepository).should(times(1)).save(any());
         }
 
+        @DisplayName("생성한 메뉴에 구성 상품 가격의 합을 저장한다")
+        @Test
+        void create_componentCost() {
+            //given
+            when(purgomalumTestClient.containsProfanity(any())).thenReturn(false);
+            when(menuRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            //when
+            Menu savedMenu = menuService.create(메뉴A);
+
+            //then
+            assertThat(savedMenu.getComponentCost()).isEqualByComparingTo(BigDecimal.valueOf(60_000));
+        }
+
         @DisplayName("메뉴이 존재하지 않으면 메뉴 생성을 실패한다")
         @Test
         void create_menuGroup_exception() {
@@ -169,6 +189,51 @@ class MenuServiceMockTest {
             then(purgomalumTestClient).should(never()).containsProfanity(any());
             then(menuRepository).should(never()).save(any());
         }
+        @DisplayName("선택한 메뉴 상품 중 존재하지 않는 상품이 있으면 해당 상품 ID와 함께 메뉴 생성을 실패한다")
+        @Test
+        void create_product_not_found_exception() {
+            //given
+            Product 미등록_상품 = 상품_생성("미등록상품", BigDecimal.valueOf(10_000));
+            Menu menu = 메뉴_생성("낚시메뉴", BigDecimal.valueOf(10_000), false, 메뉴_그룹A.getId(), List.of(상품A, 미등록_상품));
+
+            //when
+            //then
+            assertThatThrownBy(() -> menuService.create(menu))
+                    .isInstanceOf(ProductNotFoundException.class)
+                    .extracting(e -> ((ProductNotFoundException) e).getMissingProductIds())
+                    .isEqualTo(List.of(미등록_상품.getId()));
+            then(productRepository).should(times(1)).findAllByIdIn(any());
+            then(productRepository).should(never()).findById(any());
+            then(purgomalumTestClient).should(never()).containsProfanity(any());
+            then(menuRepository).should(never()).save(any());
+        }
+    }
+
+    @DisplayName("메뉴를 한 번에 여러 개 생성 시, 실패한 메뉴는 결과에 사유를 남기고 나머지는 생성한다")
+    @Test
+    void createAll_partial_failure() {
+        //given
+        MenuGroup menuGroup = 메뉴_그룹_생성("세트메뉴");
+        menuGroup.setId(UUID.randomUUID());
+        List<Menu> requests = List.of(
+                메뉴_생성("세트A", BigDecimal.valueOf(10_000), true, menuGroup.getId(), List.of(상품A)),
+                메뉴_생성("세트B", BigDecimal.valueOf(-1), true, menuGroup.getId(), List.of(상품A)),
+                메뉴_생성("세트C", BigDecimal.valueOf(10_000), true, UUID.randomUUID(), List.of(상품A)),
+                메뉴_생성("세트D", BigDecimal.valueOf(10_000), true, menuGroup.getId(), List.of(상품_생성("미등록상품", BigDecimal.TEN))),
+                메뉴_생성("욕설메뉴", BigDecimal.valueOf(10_000), true, menuGroup.getId(), List.of(상품A))
+        );
+        doReturn(List.of(menuGroup)).when(menuGroupRepository).findAllById(any());
+        when(purgomalumTestClient.containsProfanityAll(any())).thenReturn(Map.of("세트A", false, "욕설메뉴", true));
+
+        //when
+        List<BulkResult<Menu>> results = menuService.createAll(requests);
+
+        //then
+        assertThat(results).extracting(BulkResult::failure)
+                .containsExactly(null, "INVALID_MENU", "MENU_GROUP_NOT_FOUND", "PRODUCT_NOT_FOUND", "PROFANE_NAME");
+        assertThat(results.get(0).item().getName()).isEqualTo("세트A");
+        then(menuRepository).should(times(1)).persistAll(argThat(menus -> menus.size() == 1));
+        then(eventPublisher).should(times(1)).publishEvent(new AggregateChangedEvent(Aggregate.MENU));
     }
 
     @DisplayName("메뉴 가격을 변경한다")
@@ -293,6 +358,7 @@ class MenuServiceMockTest {
             //then
             assertThat(hidedMenu.isDisplayed()).isFalse();
             then(menuRepository).should(times(1)).findById(menuId);
+            then(eventPublisher).should(times(1)).publishEvent(new AggregateChangedEvent(Aggregate.MENU));
         }
 
         @DisplayName("존재하지 않는 메뉴의 노출여부를 숨김 상태로 변경할 수 없다")
@@ -305,6 +371,7 @@ class MenuServiceMockTest {
             //when
             //then
             assertThatThrownBy(() -> menuService.hide(menuId)).isInstanceOf(NoSuchElementException.class);
+            then(eventPublisher).shouldHaveNoInteractions();
         }
     }
 
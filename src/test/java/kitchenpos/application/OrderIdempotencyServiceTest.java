@@ -0,0 +1,139 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static kitchenpos.fixture.OrderFixture.포장_주문_생성;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+    private static final String IDEMPOTENCY_KEY = "pos-1-0001";
+
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        orderIdempotencyService = new OrderIdempotencyService(
+                orderService,
+                orderIdempotencyKeyRepository,
+                new SimpleMeterRegistry(),
+                100,
+                Duration.ofHours(24)
+        );
+    }
+
+    @DisplayName("멱등키가 비어 있으면 주문을 실패한다")
+    @ParameterizedTest
+    @NullAndEmptySource
+    void create_key_exception(String idempotencyKey) {
+        // given
+        Order request = 포장_주문_생성(Collections.emptyList());
+
+        // when
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> orderIdempotencyService.create(idempotencyKey, request));
+        then(orderService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("같은 멱등키로 다시 요청하면, 주문을 새로 만들지 않고 처음 주문을 반환한다")
+    @Test
+    void create_retry() {
+        // given
+        Order request = 포장_주문_생성(Collections.emptyList());
+        Order order = 주문();
+        when(orderIdempotencyKeyRepository.findById(IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(orderService.create(request, IDEMPOTENCY_KEY)).thenReturn(order);
+        when(orderService.findById(order.getId())).thenReturn(order);
+
+        // when
+        Order created = orderIdempotencyService.create(IDEMPOTENCY_KEY, request);
+        Order retried = orderIdempotencyService.create(IDEMPOTENCY_KEY, request);
+
+        // then
+        assertThat(retried).isSameAs(created);
+        then(orderService).should(times(1)).create(any(), any());
+        then(orderIdempotencyKeyRepository).should(times(1)).findById(any());
+    }
+
+    @DisplayName("캐시에 없는 멱등키라도 저장된 멱등키가 있으면 처음 주문을 반환한다")
+    @Test
+    void create_stored_key() {
+        // given
+        Order order = 주문();
+        when(orderIdempotencyKeyRepository.findById(IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(new OrderIdempotencyKey(IDEMPOTENCY_KEY, order.getId(), LocalDateTime.now())));
+        when(orderService.findById(order.getId())).thenReturn(order);
+
+        // when
+        Order retried = orderIdempotencyService.create(IDEMPOTENCY_KEY, 포장_주문_생성(Collections.emptyList()));
+
+        // then
+        assertThat(retried).isSameAs(order);
+        then(orderService).should(never()).create(any(), any());
+    }
+
+    @DisplayName("같은 멱등키의 요청이 동시에 들어와 먼저 저장된 주문이 있으면, 그 주문을 반환한다")
+    @Test
+    void create_concurrent_retry() {
+        // given
+        Order request = 포장_주문_생성(Collections.emptyList());
+        Order order = 주문();
+        when(orderIdempotencyKeyRepository.findById(IDEMPOTENCY_KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new OrderIdempotencyKey(IDEMPOTENCY_KEY, order.getId(), LocalDateTime.now())));
+        when(orderService.create(request, IDEMPOTENCY_KEY)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(orderService.findById(order.getId())).thenReturn(order);
+
+        // when
+        Order retried = orderIdempotencyService.create(IDEMPOTENCY_KEY, request);
+
+        // then
+        assertThat(retried).isSameAs(order);
+    }
+
+    @DisplayName("멱등키 저장 외의 이유로 주문 저장을 실패하면, 예외를 그대로 던진다")
+    @Test
+    void create_data_integrity_exception() {
+        // given
+        Order request = 포장_주문_생성(Collections.emptyList());
+        when(orderIdempotencyKeyRepository.findById(IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(orderService.create(request, IDEMPOTENCY_KEY)).thenThrow(new DataIntegrityViolationException("foreign key"));
+
+        // when
+        // then
+        assertThatThrownBy(() -> orderIdempotencyService.create(IDEMPOTENCY_KEY, request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Order 주문() {
+        Order order = 포장_주문_생성(Collections.emptyList());
+        order.setId(UUID.randomUUID());
+        return order;
+    }
+}
@@ -0,0 +1,176 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.utils.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kitchenpos.fixture.MenuFixture.메뉴_그룹_생성;
+import static kitchenpos.fixture.MenuFixture.메뉴_생성;
+import static kitchenpos.fixture.OrderFixture.*;
+import static kitchenpos.fixture.ProductFixture.메뉴_상품_생성;
+import static kitchenpos.fixture.ProductFixture.상품_생성;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        DatabaseCleaner.clean(jdbcTemplate);
+    }
+
+    @DisplayName("여러 단말이 동시에 같은 주문을 서빙해도, 주문 상태는 한 번만 변경된다")
+    @Test
+    void serve_concurrently() throws InterruptedException {
+        // given
+        UUID orderId = orderRepository.save(주문(OrderType.TAKEOUT, OrderStatus.ACCEPTED, null)).getId();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> orderService.serve(orderId), succeeded, rejected);
+
+        // then
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(succeeded).hasValue(1);
+        assertThat(rejected).hasValue(THREADS - 1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SERVED);
+        assertThat(order.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("여러 단말이 동시에 같은 매장 주문을 완료해도, 주문은 한 번만 완료되고 테이블은 한 번만 비워진다")
+    @Test
+    void complete_concurrently() throws InterruptedException {
+        // given
+        OrderTable orderTable = 손님이_앉은_테이블(1);
+        UUID orderId = orderRepository.save(주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable)).getId();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> orderService.complete(orderId), succeeded, rejected);
+
+        // then
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        OrderTable table = orderTableRepository.findById(orderTable.getId()).orElseThrow();
+        assertThat(succeeded).hasValue(1);
+        assertThat(rejected).hasValue(THREADS - 1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(order.getVersion()).isEqualTo(1L);
+        assertThat(table.getOpenOrderCount()).isZero();
+        assertThat(table.isOccupied()).isFalse();
+        assertThat(table.getNumberOfGuests()).isZero();
+        assertThat(table.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("여러 단말이 동시에 같은 매장 주문들을 한 번에 완료해도, 주문마다 한 번만 완료되고 테이블은 한 번만 정리된다")
+    @Test
+    void changeStatuses_concurrently() throws InterruptedException {
+        // given
+        OrderTable orderTable = 손님이_앉은_테이블(2);
+        List<UUID> orderIds = List.of(
+            orderRepository.save(주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable)).getId(),
+            orderRepository.save(주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable)).getId()
+        );
+        OrderStatusChangeRequest request = new OrderStatusChangeRequest(orderIds, OrderStatus.COMPLETED);
+        Queue<BulkResult<UUID>> results = new ConcurrentLinkedQueue<>();
+
+        // when
+        runConcurrently(
+            () -> results.addAll(orderService.changeStatuses(request)),
+            new AtomicInteger(),
+            new AtomicInteger()
+        );
+
+        // then
+        OrderTable table = orderTableRepository.findById(orderTable.getId()).orElseThrow();
+        assertThat(results)
+            .filteredOn(BulkResult::isSuccess)
+            .extracting(BulkResult::item)
+            .containsExactlyInAnyOrderElementsOf(orderIds);
+        assertThat(orderRepository.findAllById(orderIds))
+            .extracting(Order::getStatus)
+            .containsOnly(OrderStatus.COMPLETED);
+        assertThat(table.getOpenOrderCount()).isZero();
+        assertThat(table.isOccupied()).isFalse();
+    }
+
+    private void runConcurrently(final Runnable task, final AtomicInteger succeeded, final AtomicInteger rejected)
+        throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run();
+                    succeeded.incrementAndGet();
+                } catch (Exception e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private OrderTable 손님이_앉은_테이블(final int openOrderCount) {
+        OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "1번", 4, true);
+        orderTable.setOpenOrderCount(openOrderCount);
+        return orderTableRepository.save(orderTable);
+    }
+
+    private Order 주문(final OrderType type, final OrderStatus status, final OrderTable orderTable) {
+        MenuGroup menuGroup = menuGroupRepository.save(메뉴_그룹_생성(UUID.randomUUID(), "추천메뉴"));
+        Product product = productRepository.save(상품_생성("후라이드", BigDecimal.valueOf(16_000)));
+        Menu menu = menuRepository.save(메뉴_생성(menuGroup, "후라이드치킨", product.getPrice(), 메뉴_상품_생성(product, 1L)));
+
+        OrderLineItem orderLineItem = 주문_상품_생성(menu, menu.getPrice(), 1);
+        orderLineItem.setMenuName(menu.getName());
+        Order order = type == OrderType.EAT_IN
+            ? 매장_주문_생성(orderTable, List.of(orderLineItem))
+            : 포장_주문_생성(List.of(orderLineItem));
+        order.setId(UUID.randomUUID());
+        order.setStatus(status);
+        order.setOrderDateTime(LocalDateTime.now());
+        order.setTotalPrice(menu.getPrice());
+        return order;
+    }
+}
@@ -1,7 +1,6 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,11 +8,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
 import java.util.*;
 
 import static kitchenpos.fixture.MenuFixture.메뉴_생성;
@@ -31,7 +35,11 @@ class OrderServiceMockTest {
     @Mock
     private OrderTableRepository orderTableRepository;
     @Mock
-    private KitchenridersClient kitchenridersClient;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    @Mock
+    private DeliveryDispatchService deliveryDispatchService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private OrderService orderService;
 
@@ -89,9 +97,6 @@ class OrderServiceMockTest {
 
             //when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
 
             //then
             assertThatIllegalStateException().isThrownBy(() -> orderService.create(order));
@@ -111,9 +116,6 @@ class OrderServiceMockTest {
 
             //when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
 
             //then
             assertThatIllegalArgumentException().isThrownBy(() -> orderService.create(order));
@@ -133,9 +135,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
             when(orderRepository.save(any())).thenReturn(deliveryOrder);
 
             Order order = orderService.create(deliveryOrder);
@@ -144,10 +143,37 @@ class OrderServiceMockTest {
             assertThat(order.getType()).isEqualTo(OrderType.DELIVERY);
             assertThat(order.getStatus()).isEqualTo(OrderStatus.WAITING);
             then(menuRepository).should(times(1)).findAllByIdIn(any());
-            then(menuRepository).should(times(menus.size())).findById(any());
+            then(menuRepository).should(never()).findById(any());
             then(orderRepository).should(times(1)).save(any());
         }
 
+        @DisplayName("주문 상품이 여러 개여도 메뉴는 한 번에 조회한다")
+        @Test
+        void create_menus_loaded_once() {
+            // given
+            List<OrderLineItem> orderLineItems = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Menu menu = 메뉴_생성(UUID.randomUUID(), true, BigDecimal.valueOf(10_000));
+                orderLineItems.add(주문_상품_생성(menu, menu.getPrice(), 1));
+            }
+            Order takeoutOrder = 포장_주문_생성(orderLineItems);
+            List<Menu> menus = orderLineItems.stream()
+                    .map(OrderLineItem::getMenu)
+                    .toList();
+
+            // when
+            when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
+            when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Order order = orderService.create(takeoutOrder);
+
+            // then
+            assertThat(order.getOrderLineItems()).hasSize(orderLineItems.size());
+            assertThat(order.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(100_000));
+            then(menuRepository).should(times(1)).findAllByIdIn(any());
+            then(menuRepository).should(never()).findById(any());
+        }
+
         @DisplayName("DELIVERY 주문 요청 시, 선택한 주문 상품의 수량이 0 미만이면 주문을 실패한다")
         @Test
         void create_delivery_quantity_exception() {
@@ -182,9 +208,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
 
             //then
             assertThatIllegalArgumentException().isThrownBy(() -> orderService.create(deliveryOrder));
@@ -205,9 +228,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
             when(orderTableRepository.findById(any())).thenReturn(Optional.of(orderTable));
             when(orderRepository.save(any())).thenReturn(eatInOrder);
 
@@ -216,10 +236,12 @@ class OrderServiceMockTest {
             // then
             assertThat(order.getType()).isEqualTo(OrderType.EAT_IN);
             assertThat(order.getStatus()).isEqualTo(OrderStatus.WAITING);
+            assertThat(orderTable.getOpenOrderCount()).isEqualTo(1);
             then(menuRepository).should(times(1)).findAllByIdIn(any());
-            then(menuRepository).should(times(menus.size())).findById(any());
+            then(menuRepository).should(never()).findById(any());
             then(orderTableRepository).should(times(1)).findById(any());
             then(orderRepository).should(times(1)).save(any());
+            then(eventPublisher).should(never()).publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         }
 
         @DisplayName("EAT_IN 주문 요청 시, 주문 테이블이 존재하지 않으면 주문을 실패한다")
@@ -237,9 +259,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
             when(orderTableRepository.findById(any())).thenReturn(Optional.empty());
 
             //then
@@ -262,9 +281,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
             when(orderTableRepository.findById(any())).thenReturn(Optional.of(orderTable));
 
             //then
@@ -285,9 +301,6 @@ class OrderServiceMockTest {
 
             // when
             when(menuRepository.findAllByIdIn(any())).thenReturn(menus);
-            for (Menu m : menus) {
-                when(menuRepository.findById(m.getId())).thenReturn(Optional.of(m));
-            }
             when(orderRepository.save(any())).thenReturn(takeoutOrder);
 
             Order order = orderService.create(takeoutOrder);
@@ -296,7 +309,7 @@ class OrderServiceMockTest {
             assertThat(order.getType()).isEqualTo(OrderType.TAKEOUT);
             assertThat(order.getStatus()).isEqualTo(OrderStatus.WAITING);
             then(menuRepository).should(times(1)).findAllByIdIn(any());
-            then(menuRepository).should(times(menus.size())).findById(any());
+            then(menuRepository).should(never()).findById(any());
             then(orderRepository).should(times(1)).save(any());
         }
 
@@ -344,7 +357,27 @@ class OrderServiceMockTest {
             then(orderRepository).should(times(1)).findById(any());
         }
 
-        @DisplayName("DELIVERY 주문을 수락한다")
+        @DisplayName("주문을 수락하면 주문 상태 변경 이벤트를 발행한다")
+        @Test
+        void accept_publish_event() {
+            // given
+            Order order = 포장_주문_생성(Collections.emptyList());
+            order.setId(UUID.randomUUID());
+            order.setStatus(OrderStatus.WAITING);
+            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
+
+            // when
+            orderService.accept(order.getId());
+
+            // then
+            then(eventPublisher).should(times(1)).publishEvent(argThat((Object event) ->
+                    event instanceof OrderStatusChangedEvent changed
+                            && changed.orderId().equals(order.getId())
+                            && changed.status() == OrderStatus.ACCEPTED
+            ));
+        }
+
+        @DisplayName("DELIVERY 주문을 수락하면, 배달 요청을 같은 트랜잭션에서 적재한다")
         @Test
         void accept() {
             // given
@@ -352,16 +385,41 @@ class OrderServiceMockTest {
             OrderLineItem orderLineItem = 주문_상품_생성(menu, menu.getPrice(), 1);
             Order order = 배달_주문_생성("가짜주소", List.of(orderLineItem));
             order.setStatus(OrderStatus.WAITING);
+            order.setTotalPrice(BigDecimal.valueOf(10_000));
 
             // when
             when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-            doNothing().when(kitchenridersClient).requestDelivery(any(), any(), any());
             Order changedOrder = orderService.accept(UUID.randomUUID());
 
             // then
             assertThat(changedOrder.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
             then(orderRepository).should(times(1)).findById(any());
-            then(kitchenridersClient).should(times(1)).requestDelivery(any(), any(), any());
+            then(deliveryDispatchService).should(times(1)).enqueue(order);
+        }
+
+        @DisplayName("DELIVERY 주문을 수락할 때, 모든 주문 상품의 금액을 합한 주문 금액으로 배달 요청을 적재한다")
+        @Test
+        void accept_delivery_amount() {
+            // given
+            Menu 후라이드 = 메뉴_생성(UUID.randomUUID(), true, BigDecimal.valueOf(16_000));
+            Menu 양념치킨 = 메뉴_생성(UUID.randomUUID(), true, BigDecimal.valueOf(17_000));
+            Order deliveryOrder = 배달_주문_생성("가짜주소", List.of(
+                    주문_상품_생성(후라이드, 후라이드.getPrice(), 2),
+                    주문_상품_생성(양념치킨, 양념치킨.getPrice(), 1)
+            ));
+            when(menuRepository.findAllByIdIn(any())).thenReturn(List.of(후라이드, 양념치킨));
+            when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            Order createdOrder = orderService.create(deliveryOrder);
+
+            // when
+            when(orderRepository.findById(any())).thenReturn(Optional.of(createdOrder));
+            orderService.accept(createdOrder.getId());
+
+            // then
+            then(deliveryDispatchService).should(times(1)).enqueue(argThat(order ->
+                    order.getId().equals(createdOrder.getId())
+                            && order.getTotalPrice().compareTo(new BigDecimal("49000")) == 0
+            ));
         }
 
         @DisplayName("주문 상태를 ACCEPTED로 변경 시, 존재하지 않는 주문이면 상태 변경을 실패한다")
@@ -401,23 +459,29 @@ class OrderServiceMockTest {
         @Test
         void serve() {
             // given
+            UUID orderId = UUID.randomUUID();
             Order order = new Order();
-            order.setStatus(OrderStatus.ACCEPTED);
+            order.setId(orderId);
+            order.setStatus(OrderStatus.SERVED);
 
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-            Order changedOrder = orderService.serve(UUID.randomUUID());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            Order changedOrder = orderService.serve(orderId);
 
             // then
             assertThat(changedOrder.getStatus()).isEqualTo(OrderStatus.SERVED);
-            then(orderRepository).should(times(1)).findById(any());
+            then(orderRepository).should(times(1))
+                    .updateStatus(orderId, EnumSet.allOf(OrderType.class), OrderStatus.ACCEPTED, OrderStatus.SERVED);
+            then(eventPublisher).should(times(1)).publishEvent(any(Object.class));
         }
 
         @DisplayName("주문 상태를 SERVED로 변경 시, 존재하지 않는 주문이면 상태 변경을 실패한다")
         @Test
         void serve_order_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.empty());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(false);
 
             // then
             assertThatThrownBy(() -> orderService.serve(UUID.randomUUID()))
@@ -425,86 +489,61 @@ class OrderServiceMockTest {
         }
 
         @DisplayName("주문 상태를 SERVED로 변경 시, 주문 상태가 ACCEPTED가 아니면 상태 변경을 실패한다")
-        @ParameterizedTest
-        @EnumSource(value = OrderStatus.class,
-                mode = EnumSource.Mode.EXCLUDE,
-                names = {"ACCEPTED"})
-        void serve_order_status_exception(OrderStatus status) {
-            // given
-            Order order = new Order();
-            order.setStatus(status);
-
+        @Test
+        void serve_order_status_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(true);
 
             // then
             assertThatIllegalStateException()
                     .isThrownBy(() -> orderService.serve(UUID.randomUUID()));
+            then(eventPublisher).should(never()).publishEvent(any(Object.class));
         }
     }
 
     @DisplayName("주문 상태를 배달중으로 변경한다")
     @Nested
     class StartDeliveryTest {
-        @DisplayName("주문 상태를 DELIVERING로 변경한다")
+        @DisplayName("DELIVERY 주문 중 SERVED 상태인 주문만 DELIVERING으로 변경한다")
         @Test
         void startDelivery() {
             // given
+            UUID orderId = UUID.randomUUID();
             Order order = new Order();
+            order.setId(orderId);
             order.setType(OrderType.DELIVERY);
-            order.setStatus(OrderStatus.SERVED);
+            order.setStatus(OrderStatus.DELIVERING);
 
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-            Order changedOrder = orderService.startDelivery(UUID.randomUUID());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            Order changedOrder = orderService.startDelivery(orderId);
 
             // then
             assertThat(changedOrder.getStatus()).isEqualTo(OrderStatus.DELIVERING);
-            then(orderRepository).should(times(1)).findById(any());
+            then(orderRepository).should(times(1))
+                    .updateStatus(orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING);
         }
 
         @DisplayName("주문 상태를 DELIVERING로 변경 시, 존재하지 않는 주문이면 상태 변경을 실패한다")
         @Test
         void startDelivery_order_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.empty());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(false);
 
             // then
             assertThatThrownBy(() -> orderService.startDelivery(UUID.randomUUID()))
                     .isInstanceOf(NoSuchElementException.class);
         }
 
-        @DisplayName("주문 상태를 DELIVERING로 변경 시, 주문 형태가 DELIVERY가 아니면 상태 변경을 실패한다")
-        @ParameterizedTest
-        @EnumSource(value = OrderType.class,
-                mode = EnumSource.Mode.EXCLUDE,
-                names = {"DELIVERY"})
-        void startDelivery_order_type_exception(OrderType type) {
-            // given
-            Order order = new Order();
-            order.setType(type);
-
-            // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-
-            // then
-            assertThatIllegalStateException()
-                    .isThrownBy(() -> orderService.startDelivery(UUID.randomUUID()));
-        }
-
-        @DisplayName("주문 상태를 DELIVERING로 변경 시, 주문 상태가 SERVED가 아니면 상태 변경을 실패한다")
-        @ParameterizedTest
-        @EnumSource(value = OrderStatus.class,
-                mode = EnumSource.Mode.EXCLUDE,
-                names = {"SERVED"})
-        void startDelivery_order_status_exception(OrderStatus status) {
-            // given
-            Order order = new Order();
-            order.setType(OrderType.DELIVERY);
-            order.setStatus(status);
-
+        @DisplayName("주문 상태를 DELIVERING로 변경 시, 주문 형태나 상태가 맞지 않으면 상태 변경을 실패한다")
+        @Test
+        void startDelivery_order_status_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(true);
 
             // then
             assertThatIllegalStateException()
@@ -515,72 +554,49 @@ class OrderServiceMockTest {
     @DisplayName("주문 상태를 배달완료로 변경한다")
     @Nested
     class CompleteDeliveryTest {
-        @DisplayName("주문 상태를 DELIVERED로 변경한다")
+        @DisplayName("DELIVERY 주문 중 DELIVERING 상태인 주문만 DELIVERED로 변경한다")
         @Test
         void completeDelivery() {
             // given
+            UUID orderId = UUID.randomUUID();
             Order order = new Order();
+            order.setId(orderId);
             order.setType(OrderType.DELIVERY);
-            order.setStatus(OrderStatus.DELIVERING);
+            order.setStatus(OrderStatus.DELIVERED);
 
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-            Order changedOrder = orderService.completeDelivery(UUID.randomUUID());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+            Order changedOrder = orderService.completeDelivery(orderId);
 
             // then
             assertThat(changedOrder.getStatus()).isEqualTo(OrderStatus.DELIVERED);
-            then(orderRepository).should(times(1)).findById(any());
+            then(orderRepository).should(times(1))
+                    .updateStatus(orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.DELIVERING, OrderStatus.DELIVERED);
         }
 
         @DisplayName("주문 상태를 DELIVERED로 변경 시, 존재하지 않는 주문이면 상태 변경을 실패한다")
         @Test
         void completeDelivery_order_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.empty());
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(false);
 
             // then
             assertThatThrownBy(() -> orderService.completeDelivery(UUID.randomUUID()))
                     .isInstanceOf(NoSuchElementException.class);
-            then(orderRepository).should(times(1)).findById(any());
         }
 
-        @DisplayName("주문 상태를 DELIVERED로 변경 시, 주문 상태가 DELIVERING이 아니면 상태 변경을 실패한다")
-        @ParameterizedTest
-        @EnumSource(value = OrderStatus.class,
-                mode = EnumSource.Mode.EXCLUDE,
-                names = {"DELIVERING"})
-        void completeDelivery_order_status_exception(OrderStatus status) {
-            // given
-            Order order = new Order();
-            order.setType(OrderType.DELIVERY);
-            order.setStatus(status);
-
-            // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-
-            // then
-            assertThatIllegalStateException()
-                    .isThrownBy(() -> orderService.completeDelivery(UUID.randomUUID()));
-            then(orderRepository).should(times(1)).findById(any());
-        }
-
-        @DisplayName("주문 상태를 DELIVERED로 변경 시, 주문 형태가 DELIVERY가 아니면 상태 변경을 실패한다")
-        @ParameterizedTest
-        @EnumSource(value = OrderType.class,
-                mode = EnumSource.Mode.EXCLUDE,
-                names = {"DELIVERY"})
-        void completeDelivery_order_type_exception(OrderType type) {
-            // given
-            Order order = new Order();
-            order.setType(type);
-
+        @DisplayName("주문 상태를 DELIVERED로 변경 시, 주문 형태나 상태가 맞지 않으면 상태 변경을 실패한다")
+        @Test
+        void completeDelivery_order_status_exception() {
             // when
-            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
+            when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+            when(orderRepository.existsById(any())).thenReturn(true);
 
             // then
             assertThatIllegalStateException()
                     .isThrownBy(() -> orderService.completeDelivery(UUID.randomUUID()));
-            then(orderRepository).should(times(1)).findById(any());
         }
 
         @DisplayName("주문 상태를 COMPLETED 변경 시, 존재하지 않는 주문이면 상태 변경을 실패한다")
@@ -637,21 +653,44 @@ class OrderServiceMockTest {
             Menu menu = 메뉴_생성(UUID.randomUUID(), true, BigDecimal.valueOf(10_000));
             OrderLineItem orderLineItem = 주문_상품_생성(menu, menu.getPrice(), 1);
             OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "테이블A", 1, true);
+            orderTable.setOpenOrderCount(1);
             Order order = 매장_주문_생성(orderTable, List.of(orderLineItem));
             order.setStatus(OrderStatus.SERVED);
 
             // when
             when(orderRepository.findById(any())).thenReturn(Optional.of(order));
-            when(orderRepository.existsByOrderTableAndStatusNot(any(), any())).thenReturn(false);
             Order completedOrder = orderService.complete(UUID.randomUUID());
 
             // then
             assertThat(completedOrder.getStatus()).isEqualTo(OrderStatus.COMPLETED);
             OrderTable clearedOrderTable = completedOrder.getOrderTable();
+            assertThat(clearedOrderTable.getOpenOrderCount()).isZero();
             assertThat(clearedOrderTable.getNumberOfGuests()).isZero();
             assertThat(clearedOrderTable.isOccupied()).isFalse();
             then(orderRepository).should(times(1)).findById(any());
-            then(orderRepository).should(times(1)).existsByOrderTableAndStatusNot(any(), any());
+            then(eventPublisher).should(times(1)).publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
+        }
+
+        @DisplayName("EAT_IN 주문을 완료해도, 주문 테이블에 완료되지 않은 주문이 남아 있으면 테이블을 정리하지 않는다")
+        @Test
+        void complete_eat_in_open_orders() {
+            // given
+            Menu menu = 메뉴_생성(UUID.randomUUID(), true, BigDecimal.valueOf(10_000));
+            OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "테이블A", 4, true);
+            orderTable.setOpenOrderCount(2);
+            Order order = 매장_주문_생성(orderTable, List.of(주문_상품_생성(menu, menu.getPrice(), 1)));
+            order.setStatus(OrderStatus.SERVED);
+
+            // when
+            when(orderRepository.findById(any())).thenReturn(Optional.of(order));
+            Order completedOrder = orderService.complete(UUID.randomUUID());
+
+            // then
+            OrderTable orderTableInUse = completedOrder.getOrderTable();
+            assertThat(orderTableInUse.getOpenOrderCount()).isEqualTo(1);
+            assertThat(orderTableInUse.getNumberOfGuests()).isEqualTo(4);
+            assertThat(orderTableInUse.isOccupied()).isTrue();
+            then(eventPublisher).should(never()).publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         }
 
         @DisplayName("EAT_IN 주문의 상태를 COMPLETED로 변경 시, 주문 상태가 SERVED가 아니면 상태 변경을 실패한다")
@@ -712,6 +751,153 @@ class OrderServiceMockTest {
         }
     }
 
+    @DisplayName("여러 주문의 상태를 한 번에 변경한다")
+    @Nested
+    class ChangeStatusesTest {
+        @DisplayName("접수나 대기 상태로는 한 번에 변경할 수 없다")
+        @ParameterizedTest
+        @EnumSource(value = OrderStatus.class, names = {"WAITING", "ACCEPTED"})
+        void changeStatuses_target_exception(OrderStatus status) {
+            // given
+            OrderStatusChangeRequest request = new OrderStatusChangeRequest(List.of(UUID.randomUUID()), status);
+
+            // when
+            // then
+            assertThatIllegalArgumentException().isThrownBy(() -> orderService.changeStatuses(request));
+        }
+
+        @DisplayName("주문별로 변경 결과를 반환하고, 변경할 수 없는 주문은 실패로 표시한다")
+        @Test
+        void changeStatuses() {
+            // given
+            Order 포장_주문 = 상태_주문(OrderType.TAKEOUT, OrderStatus.SERVED, null);
+            Order 배달_주문 = 상태_주문(OrderType.DELIVERY, OrderStatus.DELIVERING, null);
+            UUID 없는_주문 = UUID.randomUUID();
+            when(orderRepository.findAllForUpdateByIdIn(any())).thenReturn(List.of(포장_주문, 배달_주문));
+            when(orderRepository.updateStatuses(any(), any(), any())).thenReturn(1);
+
+            // when
+            List<BulkResult<UUID>> results = orderService.changeStatuses(new OrderStatusChangeRequest(
+                    List.of(포장_주문.getId(), 배달_주문.getId(), 없는_주문),
+                    OrderStatus.COMPLETED
+            ));
+
+            // then
+            assertThat(results).extracting(BulkResult::item, BulkResult::failure).containsExactly(
+                    tuple(포장_주문.getId(), null),
+                    tuple(배달_주문.getId(), "INVALID_STATUS"),
+                    tuple(없는_주문, "ORDER_NOT_FOUND")
+            );
+            then(orderRepository).should(times(1))
+                    .updateStatuses(List.of(포장_주문.getId()), OrderStatus.SERVED, OrderStatus.COMPLETED);
+            then(orderRepository).should(times(1)).updateStatuses(any(), any(), any());
+            then(orderTableRepository).should(never()).releaseAllByIdIn(any());
+        }
+
+        @DisplayName("원래 상태별로 한 번씩만 일괄 변경한다")
+        @Test
+        void changeStatuses_update_per_source_status() {
+            // given
+            Order 포장_주문 = 상태_주문(OrderType.TAKEOUT, OrderStatus.SERVED, null);
+            Order 다른_포장_주문 = 상태_주문(OrderType.TAKEOUT, OrderStatus.SERVED, null);
+            Order 배달_주문 = 상태_주문(OrderType.DELIVERY, OrderStatus.DELIVERED, null);
+            when(orderRepository.findAllForUpdateByIdIn(any())).thenReturn(List.of(포장_주문, 다른_포장_주문, 배달_주문));
+            when(orderRepository.updateStatuses(List.of(포장_주문.getId(), 다른_포장_주문.getId()), OrderStatus.SERVED, OrderStatus.COMPLETED))
+                    .thenReturn(2);
+            when(orderRepository.updateStatuses(List.of(배달_주문.getId()), OrderStatus.DELIVERED, OrderStatus.COMPLETED))
+                    .thenReturn(1);
+
+            // when
+            List<BulkResult<UUID>> results = orderService.changeStatuses(new OrderStatusChangeRequest(
+                    List.of(포장_주문.getId(), 다른_포장_주문.getId(), 배달_주문.getId()),
+                    OrderStatus.COMPLETED
+            ));
+
+            // then
+            assertThat(results).allMatch(BulkResult::isSuccess);
+            then(orderRepository).should(times(1)).findAllForUpdateByIdIn(any());
+            then(orderRepository).should(times(2)).updateStatuses(any(), any(), any());
+            then(orderRepository).should(never()).updateStatus(any(), any(), any(), any());
+        }
+
+        @DisplayName("EAT_IN 주문을 완료하면, 주문 테이블을 한 번에 정리한다")
+        @Test
+        void changeStatuses_release_orderTables() {
+            // given
+            OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "1번", 4, true);
+            Order 첫_주문 = 상태_주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable);
+            Order 둘째_주문 = 상태_주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable);
+            when(orderRepository.findAllForUpdateByIdIn(any())).thenReturn(List.of(첫_주문, 둘째_주문));
+            when(orderRepository.updateStatuses(any(), any(), any())).thenReturn(2);
+            when(orderTableRepository.releaseAllByIdIn(any())).thenReturn(1);
+
+            // when
+            List<BulkResult<UUID>> results = orderService.changeStatuses(new OrderStatusChangeRequest(
+                    List.of(첫_주문.getId(), 둘째_주문.getId()),
+                    OrderStatus.COMPLETED
+            ));
+
+            // then
+            assertThat(results).allMatch(BulkResult::isSuccess);
+            then(orderTableRepository).should(times(1)).decreaseOpenOrderCount(orderTable.getId(), 2);
+            then(orderTableRepository).should(times(1)).releaseAllByIdIn(Set.of(orderTable.getId()));
+            then(eventPublisher).should(times(1)).publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
+        }
+
+        @DisplayName("잠근 시점에 다른 요청이 이미 상태를 바꾼 주문은 실패로 표시하고 테이블을 정리하지 않는다")
+        @Test
+        void changeStatuses_concurrent_change() {
+            // given
+            OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "1번", 4, true);
+            Order 바뀔_주문 = 상태_주문(OrderType.EAT_IN, OrderStatus.SERVED, orderTable);
+            Order 선점된_주문 = 상태_주문(OrderType.EAT_IN, OrderStatus.COMPLETED, orderTable);
+            when(orderRepository.findAllForUpdateByIdIn(any())).thenReturn(List.of(바뀔_주문, 선점된_주문));
+            when(orderRepository.updateStatuses(any(), any(), any())).thenReturn(1);
+
+            // when
+            List<BulkResult<UUID>> results = orderService.changeStatuses(new OrderStatusChangeRequest(
+                    List.of(바뀔_주문.getId(), 선점된_주문.getId()),
+                    OrderStatus.COMPLETED
+            ));
+
+            // then
+            assertThat(results).extracting(BulkResult::item, BulkResult::failure).containsExactly(
+                    tuple(바뀔_주문.getId(), null),
+                    tuple(선점된_주문.getId(), "INVALID_STATUS")
+            );
+            then(orderRepository).should(times(1))
+                    .updateStatuses(List.of(바뀔_주문.getId()), OrderStatus.SERVED, OrderStatus.COMPLETED);
+            then(orderTableRepository).should(times(1)).decreaseOpenOrderCount(orderTable.getId(), 1);
+        }
+
+        @DisplayName("잠근 주문 중 일부만 변경되면 예외가 발생한다")
+        @Test
+        void changeStatuses_partial_update_exception() {
+            // given
+            Order 첫_주문 = 상태_주문(OrderType.TAKEOUT, OrderStatus.SERVED, null);
+            Order 둘째_주문 = 상태_주문(OrderType.TAKEOUT, OrderStatus.SERVED, null);
+            when(orderRepository.findAllForUpdateByIdIn(any())).thenReturn(List.of(첫_주문, 둘째_주문));
+            when(orderRepository.updateStatuses(any(), any(), any())).thenReturn(1);
+
+            // when
+            // then
+            assertThatIllegalStateException().isThrownBy(() -> orderService.changeStatuses(new OrderStatusChangeRequest(
+                    List.of(첫_주문.getId(), 둘째_주문.getId()),
+                    OrderStatus.COMPLETED
+            )));
+            then(eventPublisher).should(never()).publishEvent(any(OrderStatusChangedEvent.class));
+        }
+
+        private Order 상태_주문(OrderType type, OrderStatus status, OrderTable orderTable) {
+            Order order = new Order();
+            order.setId(UUID.randomUUID());
+            order.setType(type);
+            order.setStatus(status);
+            order.setOrderTable(orderTable);
+            return order;
+        }
+    }
+
     @DisplayName("주문 목록을 조회한다")
     @Test
     void findAll() {
@@ -722,4 +908,156 @@ class OrderServiceMockTest {
         // then
         assertThat(orders).hasSize(0);
     }
+
+    @DisplayName("주방 화면에는 대기, 접수, 서빙 상태의 주문만 조회한다")
+    @Test
+    void findKitchenBoard() {
+        // given
+        when(orderRepository.findAllByStatusInOrderByOrderDateTime(any())).thenReturn(Collections.emptyList());
+
+        // when
+        orderService.findKitchenBoard();
+
+        // then
+        then(orderRepository).should(times(1)).findAllByStatusInOrderByOrderDateTime(
+                Set.of(OrderStatus.WAITING, OrderStatus.ACCEPTED, OrderStatus.SERVED)
+        );
+    }
+
+    @DisplayName("주문을 한 건씩 내보낸다")
+    @Test
+    void export() {
+        // given
+        List<Order> orders = List.of(포장_주문_생성(Collections.emptyList()), 포장_주문_생성(Collections.emptyList()));
+        willAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(0);
+            orders.forEach(consumer);
+            return null;
+        }).given(orderRepository).exportAll(any());
+        List<Order> exported = new ArrayList<>();
+
+        // when
+        orderService.export(exported::add);
+
+        // then
+        assertThat(exported).containsExactlyElementsOf(orders);
+    }
+
+    @DisplayName("주문 목록을 페이지 단위로 조회한다")
+    @Nested
+    class FindPageTest {
+        @DisplayName("페이지 크기가 범위를 벗어나면 조회를 실패한다")
+        @ParameterizedTest
+        @ValueSource(ints = {0, OrderService.MAX_PAGE_SIZE + 1})
+        void findAll_size_exception(int size) {
+            // given
+            // when
+            // then
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> orderService.findAll(null, null, null, null, null, size));
+        }
+
+        @DisplayName("페이지 크기 없이 조회하면, 조건에 맞는 주문을 모두 반환한다")
+        @Test
+        void findAll_unpaged() {
+            // given
+            List<Order> orders = List.of(주문(1), 주문(2), 주문(3));
+            when(orderRepository.findAllBefore(any(), any(), any(), any(), any(), any(), any())).thenReturn(orders);
+
+            // when
+            List<Order> found = orderService.findAll(OrderStatus.COMPLETED, null, null, null);
+
+            // then
+            assertThat(found).containsExactlyElementsOf(orders);
+            then(orderRepository).should(times(1))
+                    .findAllBefore(OrderStatus.COMPLETED, null, null, null, null, null, Pageable.unpaged());
+        }
+
+        @DisplayName("다음 주문이 남아 있으면, 마지막 주문의 커서를 함께 반환한다")
+        @Test
+        void findAll_next_cursor() {
+            // given
+            List<Order> orders = List.of(주문(1), 주문(2), 주문(3));
+            when(orderRepository.findAllBefore(any(), any(), any(), any(), any(), any(), any())).thenReturn(orders);
+
+            // when
+            OrderPage<Order> page = orderService.findAll(null, null, null, null, null, 2);
+
+            // then
+            assertThat(page.orders()).containsExactly(orders.get(0), orders.get(1));
+            assertThat(page.nextCursor()).isEqualTo(OrderCursor.from(orders.get(1)));
+        }
+
+        @DisplayName("마지막 페이지이면 커서를 반환하지 않는다")
+        @Test
+        void findAll_last_page() {
+            // given
+            OrderCursor cursor = OrderCursor.from(주문(0));
+            List<Order> orders = List.of(주문(1));
+            when(orderRepository.findAllBefore(any(), any(), any(), any(), eq(cursor.orderDateTime()), eq(cursor.id()), any()))
+                    .thenReturn(orders);
+
+            // when
+            OrderPage<Order> page = orderService.findAll(null, null, null, null, cursor, 2);
+
+            // then
+            assertThat(page.orders()).containsExactly(orders.get(0));
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @DisplayName("커서는 인코딩 후 디코딩해도 같은 위치를 가리킨다")
+        @Test
+        void cursor_round_trip() {
+            // given
+            OrderCursor cursor = OrderCursor.from(주문(1));
+
+            // when
+            OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @DisplayName("요약 목록은 페이지의 주문 상품을 한 번에 조회해 주문별로 묶는다")
+        @Test
+        void findSummaries() {
+            // given
+            List<Order> orders = List.of(주문(1), 주문(2));
+            UUID menuId = UUID.randomUUID();
+            when(orderRepository.findAllBefore(any(), any(), any(), any(), any(), any(), any())).thenReturn(orders);
+            when(orderRepository.findAllLineItemViewsByOrderIdIn(any())).thenReturn(List.of(
+                    new OrderLineItemView(orders.get(0).getId(), menuId, "후라이드치킨", 2, BigDecimal.valueOf(16_000)),
+                    new OrderLineItemView(orders.get(0).getId(), menuId, "양념치킨", 1, BigDecimal.valueOf(17_000))
+            ));
+
+            // when
+            OrderPage<OrderSummary> page = orderService.findSummaries(null, null, null, null, null, 2);
+
+            // then
+            then(orderRepository).should(times(1))
+                    .findAllLineItemViewsByOrderIdIn(List.of(orders.get(0).getId(), orders.get(1).getId()));
+            assertThat(page.orders()).extracting(OrderSummary::id)
+                    .containsExactly(orders.get(0).getId(), orders.get(1).getId());
+            assertThat(page.orders().get(0).orderLineItems()).extracting(OrderSummary.LineItem::menuName)
+                    .containsExactly("후라이드치킨", "양념치킨");
+            assertThat(page.orders().get(1).orderLineItems()).isEmpty();
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @DisplayName("잘못된 커서는 디코딩을 실패한다")
+        @Test
+        void cursor_decode_exception() {
+            // given
+            // when
+            // then
+            assertThatIllegalArgumentException().isThrownBy(() -> OrderCursor.decode("invalid"));
+        }
+
+        private Order 주문(int minutesAgo) {
+            Order order = 포장_주문_생성(Collections.emptyList());
+            order.setId(UUID.randomUUID());
+            order.setOrderDateTime(LocalDateTime.of(2024, 1, 1, 12, 0).minusMinutes(minutesAgo));
+            return order;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package kitchenpos.application;
+
+import jakarta.persistence.EntityManagerFactory;
+import kitchenpos.domain.*;
+import kitchenpos.utils.DatabaseCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static kitchenpos.fixture.MenuFixture.메뉴_그룹_생성;
+import static kitchenpos.fixture.MenuFixture.메뉴_생성;
+import static kitchenpos.fixture.OrderFixture.주문_상품_생성;
+import static kitchenpos.fixture.OrderFixture.포장_주문_생성;
+import static kitchenpos.fixture.ProductFixture.메뉴_상품_생성;
+import static kitchenpos.fixture.ProductFixture.상품_생성;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderServiceQueryCountTest {
+    private static final int MENUS = 10;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Menu> menus = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(메뉴_그룹_생성(UUID.randomUUID(), "추천메뉴"));
+        Product product = productRepository.save(상품_생성("후라이드", BigDecimal.valueOf(16_000)));
+        for (int i = 0; i < MENUS; i++) {
+            menus.add(menuRepository.save(
+                    메뉴_생성(menuGroup, "후라이드치킨" + i, product.getPrice(), 메뉴_상품_생성(product, 1L))
+            ));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseCleaner.clean(jdbcTemplate);
+    }
+
+    @DisplayName("주문 상품 수와 관계없이 주문 생성은 메뉴를 한 번의 쿼리로 조회하고 추가 조회를 하지 않는다")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, MENUS})
+    void create(int lineItems) {
+        // given
+        List<OrderLineItem> orderLineItems = menus.subList(0, lineItems)
+                .stream()
+                .map(menu -> 주문_상품_생성(menu, menu.getPrice(), 1))
+                .toList();
+
+        // when
+        orderService.create(포장_주문_생성(orderLineItems));
+
+        // then
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + lineItems);
+    }
+}
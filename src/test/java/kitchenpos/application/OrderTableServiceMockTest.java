@@ -1,6 +1,5 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +10,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -27,7 +27,7 @@ class OrderTableServiceMockTest {
     @Mock
     private OrderTableRepository orderTableRepository;
     @Mock
-    private OrderRepository orderRepository;
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private OrderTableService orderTableService;
 
@@ -55,6 +55,21 @@ class OrderTableServiceMockTest {
         사용중인_주문_테이블을_생성한다("테이블A");
     }
 
+    @DisplayName("이미 사용중인 주문 테이블을 사용중 상태로 변경하면, 변경 이벤트를 발행하지 않는다")
+    @Test
+    void sit_occupied() {
+        //given
+        OrderTable orderTable = 주문_테이블_생성(UUID.randomUUID(), "테이블A", 2, true);
+        when(orderTableRepository.findById(any())).thenReturn(Optional.of(orderTable));
+
+        //when
+        OrderTable sitedOrderTable = orderTableService.sit(UUID.randomUUID());
+
+        //then
+        assertThat(sitedOrderTable.isOccupied()).isTrue();
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+
     @DisplayName("존재하지 않는 주문 테이블은 사용중 상태로 변경할 수 없다")
     @Test
     void sit_exception() {
@@ -73,7 +88,6 @@ class OrderTableServiceMockTest {
         //given
         OrderTable orderTable = 주문_테이블을_생성한다("테이블A");
         when(orderTableRepository.findById(any())).thenReturn(Optional.of(orderTable));
-        when(orderRepository.existsByOrderTableAndStatusNot(any(), any())).thenReturn(false);
 
         //when
         OrderTable clearedOrderTable = orderTableService.clear(UUID.randomUUID());
@@ -82,7 +96,6 @@ class OrderTableServiceMockTest {
         assertThat(clearedOrderTable.isOccupied()).isFalse();
         assertThat(clearedOrderTable.getNumberOfGuests()).isZero();
         then(orderTableRepository).should(times(1)).findById(any());
-        then(orderRepository).should(times(1)).existsByOrderTableAndStatusNot(any(), any());
     }
 
     @DisplayName("존재하지 않는 주문 테이블은 미사용 상태로 변경할 수 없다")
@@ -90,14 +103,13 @@ class OrderTableServiceMockTest {
     void clear_orderTable_exception() {
         // given
         OrderTable orderTable = 주문_테이블을_생성한다("테이블A");
+        orderTable.setOpenOrderCount(1);
         when(orderTableRepository.findById(any())).thenReturn(Optional.of(orderTable));
-        when(orderRepository.existsByOrderTableAndStatusNot(any(), any())).thenReturn(true);
 
         // when
         // then
         assertThatIllegalStateException().isThrownBy(() -> orderTableService.clear(UUID.randomUUID()));
         then(orderTableRepository).should(times(1)).findById(any());
-        then(orderRepository).should(times(1)).existsByOrderTableAndStatusNot(any(), any());
     }
 
     @DisplayName("주문이 완료되지 않은 주문 테이블은 미사용 상태로 변경할 수 없다")
@@ -110,7 +122,6 @@ class OrderTableServiceMockTest {
         // then
         assertThatThrownBy(() -> orderTableService.clear(UUID.randomUUID())).isInstanceOf(NoSuchElementException.class);
         then(orderTableRepository).should(times(1)).findById(any());
-        then(orderRepository).should(never()).existsByOrderTableAndStatusNot(any(), any());
     }
 
     @DisplayName("주문 테이블의 인원 수를 변경한다")
@@ -210,6 +221,7 @@ class OrderTableServiceMockTest {
         //then
         assertThat(sitedOrderTable.isOccupied()).isTrue();
         then(orderTableRepository).should(times(1)).findById(any());
+        then(eventPublisher).should(times(1)).publishEvent(new AggregateChangedEvent(Aggregate.ORDER_TABLE));
         return sitedOrderTable;
     }
 
@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.utils.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kitchenpos.fixture.MenuFixture.메뉴_그룹_생성;
+import static kitchenpos.fixture.MenuFixture.메뉴_생성;
+import static kitchenpos.fixture.ProductFixture.메뉴_상품_생성;
+import static kitchenpos.fixture.ProductFixture.상품_생성;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductServiceConcurrencyTest {
+    private static final long QUANTITY = 2;
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        DatabaseCleaner.clean(jdbcTemplate);
+    }
+
+    @DisplayName("같은 상품의 가격을 동시에 변경해도, 메뉴의 구성 상품 가격 합은 최종 상품 가격과 일치한다")
+    @Test
+    void changePrice_concurrently() throws InterruptedException {
+        // given
+        Product product = productRepository.save(상품_생성("후라이드", BigDecimal.valueOf(10_000)));
+        UUID menuId = 메뉴(product).getId();
+        List<BigDecimal> prices = List.of(BigDecimal.valueOf(12_000), BigDecimal.valueOf(15_000));
+        ExecutorService executor = Executors.newFixedThreadPool(prices.size());
+        CountDownLatch ready = new CountDownLatch(prices.size());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        Queue<Exception> unexpected = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (BigDecimal price : prices) {
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    Product request = new Product();
+                    request.setPrice(price);
+                    productService.changePrice(product.getId(), request);
+                    succeeded.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    conflicted.incrementAndGet();
+                } catch (Exception e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        Product changed = productRepository.findById(product.getId()).orElseThrow();
+        Menu menu = menuRepository.findById(menuId).orElseThrow();
+        assertThat(unexpected).isEmpty();
+        assertThat(conflicted).hasValue(0);
+        assertThat(succeeded).hasValue(prices.size());
+        assertThat(changed.getVersion()).isEqualTo(prices.size());
+        assertThat(menu.getComponentCost())
+                .isEqualByComparingTo(changed.getPrice().multiply(BigDecimal.valueOf(QUANTITY)));
+    }
+
+    private Menu 메뉴(Product product) {
+        MenuGroup menuGroup = menuGroupRepository.save(메뉴_그룹_생성(UUID.randomUUID(), "추천메뉴"));
+        return menuRepository.save(메뉴_생성(menuGroup, "후라이드 두 마리", product.getPrice(), 메뉴_상품_생성(product, QUANTITY)));
+    }
+}
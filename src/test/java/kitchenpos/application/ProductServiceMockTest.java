@@ -4,7 +4,7 @@ import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
-import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.ProfanityClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +13,11 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.*;
 
-import static kitchenpos.fixture.MenuFixture.메뉴_생성;
 import static kitchenpos.fixture.ProductFixture.상품_생성;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -29,7 +29,9 @@ class ProductServiceMockTest {
     @Mock
     private MenuRepository menuRepository;
     @Mock
-    private PurgomalumClient purgomalumClient;
+    private ProfanityClient profanityClient;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ProductService productService;
 
@@ -38,14 +40,14 @@ class ProductServiceMockTest {
     void create() {
         //given
         Product product = 상품_생성("피자", BigDecimal.valueOf(20_000));
-        when(purgomalumClient.containsProfanity(any())).thenReturn(false);
+        when(profanityClient.containsProfanity(any())).thenReturn(false);
         when(productRepository.save(any(Product.class))).thenReturn(product);
 
         //when
         Product createdProduct = productService.create(product);
 
         //then
-        then(purgomalumClient).should(times(1)).containsProfanity(any());
+        then(profanityClient).should(times(1)).containsProfanity(any());
         then(productRepository).should(times(1)).save(any());
         assertThat(createdProduct.getName()).isEqualTo(product.getName());
         assertThat(createdProduct.getPrice()).isEqualTo(product.getPrice());
@@ -68,7 +70,7 @@ class ProductServiceMockTest {
     void create_profanity_name_exception() {
         //given
         Product product = 상품_생성("피자", BigDecimal.valueOf(20_000));
-        when(purgomalumClient.containsProfanity(any())).thenReturn(true);
+        when(profanityClient.containsProfanity(any())).thenReturn(true);
 
         //when
         //then
@@ -86,13 +88,53 @@ class ProductServiceMockTest {
         assertThatIllegalArgumentException().isThrownBy(() -> productService.create(product));
     }
 
+    @DisplayName("상품을 한 번에 여러 개 생성한다")
+    @Test
+    void createAll() {
+        //given
+        List<Product> requests = List.of(
+                상품_생성("피자", BigDecimal.valueOf(20_000)),
+                상품_생성("치킨", BigDecimal.valueOf(18_000))
+        );
+        when(profanityClient.containsProfanityAll(any())).thenReturn(Map.of("피자", false, "치킨", false));
+
+        //when
+        List<BulkResult<Product>> results = productService.createAll(requests);
+
+        //then
+        assertThat(results).allMatch(BulkResult::isSuccess);
+        assertThat(results).extracting(result -> result.item().getName()).containsExactly("피자", "치킨");
+        then(profanityClient).should(times(1)).containsProfanityAll(any());
+        then(profanityClient).should(never()).containsProfanity(any());
+        then(productRepository).should(times(1)).persistAll(argThat(products -> products.size() == 2));
+    }
+
+    @DisplayName("상품을 한 번에 여러 개 생성 시, 실패한 상품은 결과에 사유를 남기고 나머지는 생성한다")
+    @Test
+    void createAll_partial_failure() {
+        //given
+        List<Product> requests = List.of(
+                상품_생성("피자", BigDecimal.valueOf(20_000)),
+                상품_생성("치킨", BigDecimal.valueOf(-1)),
+                상품_생성("욕설", BigDecimal.valueOf(18_000))
+        );
+        when(profanityClient.containsProfanityAll(any())).thenReturn(Map.of("피자", false, "욕설", true));
+
+        //when
+        List<BulkResult<Product>> results = productService.createAll(requests);
+
+        //then
+        assertThat(results).extracting(BulkResult::failure).containsExactly(null, "INVALID_PRODUCT", "PROFANE_NAME");
+        then(productRepository).should(times(1)).persistAll(argThat(products -> products.size() == 1));
+    }
+
     @DisplayName("상품 가격을 변경 한다")
     @Test
     void changePrice() {
         //given
         Product originProduct = 상품_생성("피자", BigDecimal.valueOf(20_000));
         when(productRepository.findById(any())).thenReturn(Optional.of(originProduct));
-        when(menuRepository.findAllByProductId(any())).thenReturn(Collections.emptyList());
+        when(menuRepository.findAllDisplayedIdsPricedOverComponentCost(any())).thenReturn(Collections.emptyList());
 
         //when
         Product changeProduct = 상품_생성("피자", BigDecimal.valueOf(30_000));
@@ -100,7 +142,9 @@ class ProductServiceMockTest {
 
         //then
         then(productRepository).should(times(1)).findById(any());
-        then(menuRepository).should(times(1)).findAllByProductId(any());
+        then(menuRepository).should(times(1)).addComponentCostByProductId(originProduct.getId(), BigDecimal.valueOf(10_000));
+        then(menuRepository).should(times(1)).findAllDisplayedIdsPricedOverComponentCost(any());
+        then(menuRepository).should(never()).hideAllByIdIn(any());
         assertThat(changeProduct.getPrice()).isEqualTo(changedProduct.getPrice());
     }
 
@@ -108,20 +152,70 @@ class ProductServiceMockTest {
     @Test
     void changePrice_menu() {
         //given
+        UUID productId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
         Product originProduct = 상품_생성("피자", BigDecimal.valueOf(50_000));
-        Menu menu = 메뉴_생성("메뉴A", BigDecimal.valueOf(50_000), true, UUID.randomUUID(), List.of(originProduct));
         when(productRepository.findById(any())).thenReturn(Optional.of(originProduct));
-        when(menuRepository.findAllByProductId(any())).thenReturn(Collections.singletonList(menu));
+        when(menuRepository.findAllDisplayedIdsPricedOverComponentCost(List.of(productId))).thenReturn(List.of(menuId));
 
         //when
         Product changeProduct = 상품_생성("피자", BigDecimal.valueOf(30_000));
-        Product changedProduct = productService.changePrice(UUID.randomUUID(), changeProduct);
+        Product changedProduct = productService.changePrice(productId, changeProduct);
 
         //then
         then(productRepository).should(times(1)).findById(any());
-        then(menuRepository).should(times(1)).findAllByProductId(any());
+        then(menuRepository).should(times(1)).addComponentCostByProductId(originProduct.getId(), BigDecimal.valueOf(-20_000));
+        then(menuRepository).should(times(1)).hideAllByIdIn(List.of(menuId));
         assertThat(changeProduct.getPrice()).isEqualTo(changedProduct.getPrice());
-        assertThat(menu.isDisplayed()).isFalse();
+    }
+
+    @DisplayName("여러 상품의 가격을 변경하고, 영향받는 메뉴는 한 번만 재평가한다")
+    @Test
+    void changePrices() {
+        //given
+        Product 피자 = 상품_생성("피자", BigDecimal.valueOf(20_000));
+        Product 치킨 = 상품_생성("치킨", BigDecimal.valueOf(18_000));
+        Menu hiddenMenu = new Menu();
+        hiddenMenu.setId(UUID.randomUUID());
+        when(productRepository.findAllByIdIn(List.of(피자.getId(), 치킨.getId()))).thenReturn(List.of(피자, 치킨));
+        when(menuRepository.findAllDisplayedIdsPricedOverComponentCost(List.of(피자.getId(), 치킨.getId())))
+                .thenReturn(List.of(hiddenMenu.getId()));
+        when(menuRepository.findAllByIdIn(List.of(hiddenMenu.getId()))).thenReturn(List.of(hiddenMenu));
+
+        //when
+        List<Menu> hiddenMenus = productService.changePrices(List.of(
+                상품_생성(피자.getId(), BigDecimal.valueOf(10_000)),
+                상품_생성(치킨.getId(), BigDecimal.valueOf(9_000))
+        ));
+
+        //then
+        assertThat(피자.getPrice()).isEqualTo(BigDecimal.valueOf(10_000));
+        assertThat(치킨.getPrice()).isEqualTo(BigDecimal.valueOf(9_000));
+        assertThat(hiddenMenus).containsExactly(hiddenMenu);
+        then(menuRepository).should(times(1)).addComponentCostByProductId(피자.getId(), BigDecimal.valueOf(-10_000));
+        then(menuRepository).should(times(1)).addComponentCostByProductId(치킨.getId(), BigDecimal.valueOf(-9_000));
+        then(menuRepository).should(times(1)).findAllDisplayedIdsPricedOverComponentCost(any());
+        then(menuRepository).should(times(1)).hideAllByIdIn(List.of(hiddenMenu.getId()));
+    }
+
+    @DisplayName("여러 상품의 가격 변경 시, 존재하지 않는 상품이 있으면 변경을 실패한다")
+    @Test
+    void changePrices_product_exception() {
+        //given
+        Product 피자 = 상품_생성("피자", BigDecimal.valueOf(20_000));
+        UUID unknownId = UUID.randomUUID();
+        when(productRepository.findAllByIdIn(any())).thenReturn(List.of(피자));
+
+        //when
+        //then
+        assertThatThrownBy(() -> productService.changePrices(List.of(
+                상품_생성(피자.getId(), BigDecimal.valueOf(10_000)),
+                상품_생성(unknownId, BigDecimal.valueOf(9_000))
+        )))
+                .isInstanceOf(ProductNotFoundException.class)
+                .extracting(e -> ((ProductNotFoundException) e).getMissingProductIds())
+                .isEqualTo(List.of(unknownId));
+        then(menuRepository).should(never()).hideAllByIdIn(any());
     }
 
     @DisplayName("존재하지 않는 상품의 가격 변경 시, 변경을 실패한다")
@@ -0,0 +1,109 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MenuRepositoryTest {
+    private static final int MENU_GROUPS = 5;
+    private static final int PRODUCTS = 20;
+    private static final int MENUS = 50;
+
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private UUID menuId;
+
+    @BeforeEach
+    void setUp() {
+        List<MenuGroup> menuGroups = new ArrayList<>();
+        for (int i = 0; i < MENU_GROUPS; i++) {
+            MenuGroup menuGroup = new MenuGroup();
+            menuGroup.setId(UUID.randomUUID());
+            menuGroup.setName("메뉴그룹" + i);
+            entityManager.persist(menuGroup);
+            menuGroups.add(menuGroup);
+        }
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setId(UUID.randomUUID());
+            product.setName("상품" + i);
+            product.setPrice(BigDecimal.valueOf(1_000));
+            entityManager.persist(product);
+            products.add(product);
+        }
+        for (int i = 0; i < MENUS; i++) {
+            Menu menu = new Menu();
+            menu.setId(UUID.randomUUID());
+            menu.setName("메뉴" + i);
+            menu.setPrice(BigDecimal.valueOf(2_000));
+            menu.setComponentCost(BigDecimal.valueOf(2_000));
+            menu.setDisplayed(true);
+            menu.setMenuGroup(menuGroups.get(i % MENU_GROUPS));
+            menu.setMenuProducts(List.of(
+                    메뉴_상품(products.get(i % PRODUCTS)),
+                    메뉴_상품(products.get((i + 1) % PRODUCTS))
+            ));
+            entityManager.persist(menu);
+            menuId = menu.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("메뉴 목록을 조회할 때 메뉴 그룹과 구성 상품을 한 번의 쿼리로 가져온다")
+    @Test
+    void findAll() {
+        //when
+        List<Menu> menus = menuRepository.findAll();
+        long productNames = menus.stream()
+                .flatMap(menu -> menu.getMenuProducts().stream())
+                .map(menuProduct -> menuProduct.getProduct().getName())
+                .count();
+
+        //then
+        assertThat(menus).hasSize(MENUS);
+        assertThat(menus).allSatisfy(menu -> assertThat(menu.getMenuGroup().getName()).isNotNull());
+        assertThat(productNames).isEqualTo(MENUS * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("메뉴를 식별자로만 조회할 때는 구성 상품을 함께 가져오지 않는다")
+    @Test
+    void findById() {
+        //when
+        Menu menu = menuRepository.findById(menuId).orElseThrow();
+
+        //then
+        assertThat(menu.getMenuGroup().getName()).isNotNull();
+        assertThat(Hibernate.isInitialized(menu.getMenuProducts())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static MenuProduct 메뉴_상품(Product product) {
+        MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProduct(product);
+        menuProduct.setQuantity(1);
+        return menuProduct;
+    }
+}
@@ -0,0 +1,128 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class OrderRepositoryTest {
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("주문의 형태와 상태가 조건에 맞으면 상태를 바꾸고 버전을 올린다")
+    @Test
+    void updateStatus() {
+        //given
+        UUID orderId = 주문(OrderType.DELIVERY, OrderStatus.SERVED);
+
+        //when
+        int updated = orderRepository.updateStatus(
+                orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING
+        );
+
+        //then
+        entityManager.clear();
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERING);
+        assertThat(order.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("존재하지 않는 주문이면 아무 행도 바꾸지 않는다")
+    @Test
+    void updateStatus_not_found() {
+        //when
+        int updated = orderRepository.updateStatus(
+                UUID.randomUUID(), EnumSet.allOf(OrderType.class), OrderStatus.ACCEPTED, OrderStatus.SERVED
+        );
+
+        //then
+        assertThat(updated).isZero();
+    }
+
+    @DisplayName("주문 상태가 조건과 다르면 아무 행도 바꾸지 않는다")
+    @ParameterizedTest
+    @EnumSource(value = OrderStatus.class, mode = EnumSource.Mode.EXCLUDE, names = {"SERVED"})
+    void updateStatus_wrong_status(OrderStatus status) {
+        //given
+        UUID orderId = 주문(OrderType.DELIVERY, status);
+
+        //when
+        int updated = orderRepository.updateStatus(
+                orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING
+        );
+
+        //then
+        entityManager.clear();
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(updated).isZero();
+        assertThat(order.getStatus()).isEqualTo(status);
+        assertThat(order.getVersion()).isZero();
+    }
+
+    @DisplayName("주문 형태가 조건과 다르면 아무 행도 바꾸지 않는다")
+    @ParameterizedTest
+    @EnumSource(value = OrderType.class, mode = EnumSource.Mode.EXCLUDE, names = {"DELIVERY"})
+    void updateStatus_wrong_type(OrderType type) {
+        //given
+        UUID orderId = 주문(type, OrderStatus.SERVED);
+
+        //when
+        int updated = orderRepository.updateStatus(
+                orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING
+        );
+
+        //then
+        assertThat(updated).isZero();
+        assertThat(orderRepository.existsById(orderId)).isTrue();
+    }
+
+    @DisplayName("여러 주문 중 원래 상태가 조건과 같은 주문만 한 번에 바꾼다")
+    @Test
+    void updateStatuses() {
+        //given
+        UUID 바뀔_주문 = 주문(OrderType.TAKEOUT, OrderStatus.SERVED);
+        UUID 다른_상태_주문 = 주문(OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+
+        //when
+        int updated = orderRepository.updateStatuses(
+                List.of(바뀔_주문, 다른_상태_주문), OrderStatus.SERVED, OrderStatus.COMPLETED
+        );
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(orderRepository.findAllForUpdateByIdIn(List.of(바뀔_주문, 다른_상태_주문)))
+                .extracting(Order::getId, Order::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(바뀔_주문, OrderStatus.COMPLETED),
+                        tuple(다른_상태_주문, OrderStatus.ACCEPTED)
+                );
+    }
+
+    private UUID 주문(OrderType type, OrderStatus status) {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(type);
+        order.setStatus(status);
+        order.setOrderDateTime(LocalDateTime.now());
+        order.setTotalPrice(BigDecimal.valueOf(16_000));
+        entityManager.persist(order);
+        entityManager.flush();
+        return order.getId();
+    }
+}
@@ -0,0 +1,84 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class ProductRepositoryTest {
+    private static final int PRODUCTS = 250;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("상품을 한 번에 저장하면 조회 없이 배치 크기 단위로 묶어 INSERT 한다")
+    @Test
+    void persistAll() {
+        //given
+        List<Product> products = IntStream.range(0, PRODUCTS)
+                .mapToObj(ProductRepositoryTest::상품)
+                .toList();
+
+        //when
+        productRepository.persistAll(products);
+
+        //then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(PRODUCTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(productRepository.count()).isEqualTo(PRODUCTS);
+    }
+
+    @DisplayName("상품을 한 번에 저장해도 같은 트랜잭션에서 앞서 다룬 엔티티는 영속 상태로 남는다")
+    @Test
+    void persistAll_keeps_other_entities() {
+        //given
+        MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setName("추천메뉴");
+        entityManager.persist(menuGroup);
+        List<Product> products = IntStream.range(0, PRODUCTS)
+                .mapToObj(ProductRepositoryTest::상품)
+                .toList();
+
+        //when
+        productRepository.persistAll(products);
+
+        //then
+        assertThat(entityManager.contains(menuGroup)).isTrue();
+        assertThat(entityManager.contains(products.get(0))).isFalse();
+    }
+
+    private static Product 상품(int index) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("상품" + index);
+        product.setPrice(BigDecimal.valueOf(1_000));
+        return product;
+    }
+}
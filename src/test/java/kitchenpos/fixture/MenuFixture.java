@@ -25,6 +25,7 @@ public class MenuFixture {
                 .map(product -> 메뉴_상품_생성(product, 1L))
                 .toList();
         menu.setMenuProducts(menuProducts);
+        menu.setComponentCost(구성_상품_가격_합(menuProducts));
         return menu;
     }
 
@@ -35,6 +36,14 @@ public class MenuFixture {
         menu.setMenuGroupId(menuGroupId);
         menu.setDisplayed(displayed);
         menu.setMenuProducts(List.of(menuProduct));
+        menu.setComponentCost(구성_상품_가격_합(List.of(menuProduct)));
+        return menu;
+    }
+
+    public static Menu 메뉴_생성(MenuGroup menuGroup, String name, BigDecimal price, MenuProduct menuProduct) {
+        Menu menu = 메뉴_생성(name, price, true, menuGroup.getId(), menuProduct);
+        menu.setId(UUID.randomUUID());
+        menu.setMenuGroup(menuGroup);
         return menu;
     }
 
@@ -46,9 +55,21 @@ public class MenuFixture {
         return menu;
     }
 
+    private static BigDecimal 구성_상품_가격_합(List<MenuProduct> menuProducts) {
+        return menuProducts.stream()
+                .map(menuProduct -> menuProduct.getProduct().getPrice().multiply(BigDecimal.valueOf(menuProduct.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     public static MenuGroup 메뉴_그룹_생성(String name) {
         MenuGroup menuGroup = new MenuGroup();
         menuGroup.setName(name);
         return menuGroup;
     }
+
+    public static MenuGroup 메뉴_그룹_생성(UUID id, String name) {
+        MenuGroup menuGroup = 메뉴_그룹_생성(name);
+        menuGroup.setId(id);
+        return menuGroup;
+    }
 }
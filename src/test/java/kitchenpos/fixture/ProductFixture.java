@@ -19,6 +19,13 @@ public class ProductFixture {
         return product;
     }
 
+    public static Product 상품_생성(UUID id, BigDecimal price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setPrice(price);
+        return product;
+    }
+
     public static MenuProduct 메뉴_상품_생성(Product product, Long quantity) {
         MenuProduct menuProduct = new MenuProduct();
         menuProduct.setProductId(product.getId());
@@ -0,0 +1,36 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+    private final AhoCorasickMatcher matcher = new AhoCorasickMatcher(
+            List.of("he", "she", "his", "hers", "damn", "arse", "crap", "prick")
+    );
+
+    @DisplayName("등록된 단어가 단어 단위로 포함되면 대소문자와 위치에 관계없이 찾는다")
+    @ParameterizedTest
+    @ValueSource(strings = {"she", "HIS chicken", "치킨 Damn", "damn!", "soft-shell crap", "he,she"})
+    void matches(String text) {
+        assertThat(matcher.matches(text)).isTrue();
+    }
+
+    @DisplayName("등록된 단어가 포함되지 않으면 찾지 않는다")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "후라이드", "hxs", "dam chicken"})
+    void matches_not_found(String text) {
+        assertThat(matcher.matches(text)).isFalse();
+    }
+
+    @DisplayName("등록된 단어가 다른 단어의 일부이면 찾지 않는다")
+    @ParameterizedTest
+    @ValueSource(strings = {"Marseillaise", "scrapple", "prickly pear", "ushers", "goddamn", "fishers"})
+    void matches_inside_word(String text) {
+        assertThat(matcher.matches(text)).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingProfanityClientTest {
+    private final List<String> requestedTexts = new ArrayList<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Collection<String>> bulkRequests = new ArrayList<>();
+    private final ProfanityClient stubClient = new ProfanityClient() {
+        @Override
+        public boolean containsProfanity(String text) {
+            requestedTexts.add(text);
+            return text.contains("damn");
+        }
+
+        @Override
+        public Map<String, Boolean> containsProfanityAll(Collection<String> texts) {
+            bulkRequests.add(List.copyOf(texts));
+            return ProfanityClient.super.containsProfanityAll(texts);
+        }
+    };
+
+    private CachingProfanityClient cachingProfanityClient;
+
+    @BeforeEach
+    void setUp() {
+        cachingProfanityClient = new CachingProfanityClient(
+                stubClient, 2, Duration.ofMinutes(10), new SimpleMeterRegistry(), nanos::get
+        );
+    }
+
+    @DisplayName("이미 검사한 이름은 원격 검사 없이 캐시된 결과를 반환한다")
+    @Test
+    void containsProfanity_cached() {
+        //given
+        cachingProfanityClient.containsProfanity("후라이드");
+        cachingProfanityClient.containsProfanity("damn chicken");
+
+        //when
+        boolean clean = cachingProfanityClient.containsProfanity("후라이드");
+        boolean profane = cachingProfanityClient.containsProfanity("damn chicken");
+
+        //then
+        assertThat(clean).isFalse();
+        assertThat(profane).isTrue();
+        assertThat(requestedTexts).containsExactly("후라이드", "damn chicken");
+        assertThat(cachingProfanityClient.stats().hitCount()).isEqualTo(2);
+        assertThat(cachingProfanityClient.stats().missCount()).isEqualTo(2);
+    }
+
+    @DisplayName("유효 기간이 지난 결과는 다시 검사한다")
+    @Test
+    void containsProfanity_expired() {
+        //given
+        cachingProfanityClient.containsProfanity("후라이드");
+
+        //when
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        cachingProfanityClient.containsProfanity("후라이드");
+
+        //then
+        assertThat(requestedTexts).containsExactly("후라이드", "후라이드");
+    }
+
+    @DisplayName("최대 크기를 넘으면 결과를 제거한다")
+    @Test
+    void containsProfanity_evicted() {
+        //given
+        //when
+        cachingProfanityClient.containsProfanity("후라이드");
+        cachingProfanityClient.containsProfanity("양념치킨");
+        cachingProfanityClient.containsProfanity("반반치킨");
+
+        //then
+        assertThat(requestedTexts).hasSize(3);
+        assertThat(cachingProfanityClient.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 이름을 검사할 때 중복을 제거하고 캐시에 없는 이름만 한 번에 검사한다")
+    @Test
+    void containsProfanityAll() {
+        //given
+        cachingProfanityClient.containsProfanity("후라이드");
+
+        //when
+        Map<String, Boolean> verdicts = cachingProfanityClient.containsProfanityAll(
+                List.of("후라이드", "damn chicken", "damn chicken")
+        );
+
+        //then
+        assertThat(verdicts).containsExactly(Map.entry("후라이드", false), Map.entry("damn chicken", true));
+        assertThat(bulkRequests).containsExactly(List.of("damn chicken"));
+    }
+}
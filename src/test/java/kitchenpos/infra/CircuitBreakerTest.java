@@ -0,0 +1,95 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(
+                "test", 3, Duration.ofSeconds(30), new SimpleMeterRegistry(), nanos::get
+        );
+    }
+
+    @DisplayName("연속 실패가 임계치에 도달하면 회로가 열리고 호출을 거부한다")
+    @Test
+    void open() {
+        //given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        //when
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다")
+    @Test
+    void resetOnSuccess() {
+        //given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        //when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @DisplayName("열린 시간이 지나면 한 번의 시험 호출만 허용하고, 성공하면 회로가 닫힌다")
+    @Test
+    void halfOpen_success() {
+        //given
+        open(circuitBreaker);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        //when
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        //then
+        assertThat(probe).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("시험 호출이 실패하면 회로가 다시 열린다")
+    @Test
+    void halfOpen_failure() {
+        //given
+        open(circuitBreaker);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquire();
+
+        //when
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private static void open(final CircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
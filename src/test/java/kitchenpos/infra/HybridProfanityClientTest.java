@@ -0,0 +1,58 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HybridProfanityClientTest {
+    private final ProfanityClient localClient = new LocalProfanityClient(new AhoCorasickMatcher(List.of("damn")));
+    private final List<String> remoteRequests = new ArrayList<>();
+
+    @DisplayName("로컬 검사에서 걸러진 이름은 원격 검사를 하지 않는다")
+    @Test
+    void containsProfanity_local() {
+        //given
+        HybridProfanityClient client = new HybridProfanityClient(localClient, text -> {
+            remoteRequests.add(text);
+            return false;
+        });
+
+        //when
+        //then
+        assertThat(client.containsProfanity("damn chicken")).isTrue();
+        assertThat(remoteRequests).isEmpty();
+    }
+
+    @DisplayName("로컬 검사를 통과한 이름은 원격 검사 결과를 따른다")
+    @Test
+    void containsProfanity_remote() {
+        //given
+        HybridProfanityClient client = new HybridProfanityClient(localClient, text -> {
+            remoteRequests.add(text);
+            return true;
+        });
+
+        //when
+        //then
+        assertThat(client.containsProfanity("후라이드")).isTrue();
+        assertThat(remoteRequests).containsExactly("후라이드");
+    }
+
+    @DisplayName("원격 검사에 실패하면 로컬 검사 결과를 따른다")
+    @Test
+    void containsProfanity_remote_failure() {
+        //given
+        HybridProfanityClient client = new HybridProfanityClient(localClient, text -> {
+            throw new ResourceAccessException("connection refused");
+        });
+
+        //when
+        //then
+        assertThat(client.containsProfanity("후라이드")).isFalse();
+    }
+}
@@ -0,0 +1,188 @@
+package kitchenpos.infra;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class PurgomalumClientTest {
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    private volatile CountDownLatch release;
+
+    private HttpServer server;
+    private PurgomalumClient purgomalumClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/service/containsprofanity", exchange -> {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (release != null) {
+                    release.await();
+                }
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            final byte[] body = String.valueOf(exchange.getRequestURI().getQuery().contains("damn"))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        purgomalumClient = new PurgomalumClient(
+                new RestTemplateBuilder(),
+                new PurgomalumProperties(
+                        "http://localhost:" + server.getAddress().getPort(),
+                        Duration.ofMillis(500),
+                        Duration.ofMillis(500),
+                        4,
+                        1,
+                        Duration.ofMillis(50),
+                        Duration.ofMillis(200),
+                        2,
+                        Duration.ofMillis(300)
+                ),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (release != null) {
+            release.countDown();
+        }
+        purgomalumClient.destroy();
+        server.stop(0);
+    }
+
+    @DisplayName("원격 서비스의 비속어 판정 결과를 반환한다")
+    @Test
+    void containsProfanity() {
+        //when
+        boolean profane = purgomalumClient.containsProfanity("damn chicken");
+        boolean clean = purgomalumClient.containsProfanity("후라이드");
+
+        //then
+        assertThat(profane).isTrue();
+        assertThat(clean).isFalse();
+    }
+
+    @DisplayName("응답이 읽기 타임아웃을 넘기면 예외가 발생한다")
+    @Test
+    void readTimeout() {
+        //given
+        delayMillis = 1_000;
+
+        //when then
+        assertThatThrownBy(() -> purgomalumClient.containsProfanity("후라이드"))
+                .isInstanceOf(RestClientException.class);
+    }
+
+    @DisplayName("연속 실패로 회로가 열리면 원격 호출 없이 거부하고, 열린 시간이 지나면 시험 호출로 회로를 닫는다")
+    @Test
+    void circuitBreaker() throws InterruptedException {
+        //given
+        status = 500;
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> purgomalumClient.containsProfanity("후라이드"))
+                    .isInstanceOf(RestClientException.class);
+        }
+        int requestsWhenOpened = requests.get();
+
+        //when then
+        assertThatThrownBy(() -> purgomalumClient.containsProfanity("후라이드"))
+                .isInstanceOf(ProfanityCheckUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(requestsWhenOpened);
+        assertThat(purgomalumClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        status = 200;
+        TimeUnit.MILLISECONDS.sleep(400);
+        assertThat(purgomalumClient.containsProfanity("후라이드")).isFalse();
+        assertThat(purgomalumClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("동시 호출 한도를 넘으면 대기 시간 후 거부한다")
+    @Test
+    void bulkhead() throws Exception {
+        //given
+        release = new CountDownLatch(1);
+        Future<Boolean> inFlight = Executors.newVirtualThreadPerTaskExecutor()
+                .submit(() -> purgomalumClient.containsProfanity("후라이드"));
+        while (requests.get() == 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        //when then
+        assertThatThrownBy(() -> purgomalumClient.containsProfanity("양념치킨"))
+                .isInstanceOf(ProfanityCheckUnavailableException.class);
+        release.countDown();
+        assertThat(inFlight.get()).isFalse();
+    }
+
+    @DisplayName("여러 문장을 한 번에 판정할 때는 동시 호출 한도만큼만 나눠 호출하고, 응답이 대기 시간보다 느려도 거부하지 않는다")
+    @Test
+    void containsProfanityAll() {
+        //given
+        delayMillis = 70;
+
+        //when
+        Map<String, Boolean> verdicts = purgomalumClient.containsProfanityAll(List.of("양념치킨", "damn chicken", "양념치킨"));
+
+        //then
+        assertThat(verdicts).containsExactly(entry("양념치킨", false), entry("damn chicken", true));
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 문장을 한 번에 판정할 때 일괄 제한 시간 안에 호출 기회를 얻지 못하면 거부한다")
+    @Test
+    void containsProfanityAll_timeout() throws Exception {
+        //given
+        release = new CountDownLatch(1);
+        Future<Boolean> inFlightCheck = Executors.newVirtualThreadPerTaskExecutor()
+                .submit(() -> purgomalumClient.containsProfanity("후라이드"));
+        while (requests.get() == 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        //when then
+        assertThatThrownBy(() -> purgomalumClient.containsProfanityAll(List.of("양념치킨", "damn chicken")))
+                .isInstanceOf(ProfanityCheckUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(1);
+        release.countDown();
+        assertThat(inFlightCheck.get()).isFalse();
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.utils;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class DatabaseCleaner {
+    private static final List<String> TABLES = List.of(
+            "delivery_dispatch",
+            "order_idempotency_key",
+            "order_line_item",
+            "orders",
+            "order_table",
+            "menu_product",
+            "menu",
+            "menu_group",
+            "product"
+    );
+
+    public static void clean(JdbcTemplate jdbcTemplate) {
+        TABLES.forEach(table -> jdbcTemplate.execute("delete from " + table));
+    }
+}
@@ -0,0 +1,30 @@
+package kitchenpos.utils;
+
+import kitchenpos.infra.KitchenridersClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class KitchenridersTestClient extends KitchenridersClient {
+    private final Set<UUID> unavailableOrderIds;
+    private final List<UUID> requestedOrderIds = new CopyOnWriteArrayList<>();
+
+    public KitchenridersTestClient(Set<UUID> unavailableOrderIds) {
+        this.unavailableOrderIds = unavailableOrderIds;
+    }
+
+    @Override
+    public void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress) {
+        requestedOrderIds.add(orderId);
+        if (unavailableOrderIds.contains(orderId)) {
+            throw new IllegalStateException("rider service unavailable");
+        }
+    }
+
+    public List<UUID> getRequestedOrderIds() {
+        return requestedOrderIds;
+    }
+}
@@ -38,6 +38,11 @@ public class ProductTestRepository implements ProductRepository {
         return Optional.ofNullable(data.get(uuid));
     }
 
+    @Override
+    public void persistAll(List<Product> products) {
+        products.forEach(product -> data.put(product.getId(), product));
+    }
+
     // Not Use
     @Override
     public void flush() {
@@ -1,18 +1,44 @@
 package kitchenpos.utils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.PurgomalumProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.stereotype.Component;
 
-@Component
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class PurgomalumTestClient extends PurgomalumClient {
 
     public PurgomalumTestClient(RestTemplateBuilder restTemplateBuilder) {
-        super(restTemplateBuilder);
+        super(
+                restTemplateBuilder,
+                new PurgomalumProperties(
+                        "http://localhost",
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(1),
+                        1,
+                        1,
+                        Duration.ofMillis(100),
+                        Duration.ofSeconds(5),
+                        5,
+                        Duration.ofSeconds(30)
+                ),
+                new SimpleMeterRegistry()
+        );
     }
 
     @Override
     public boolean containsProfanity(String text) {
         return false;
     }
+
+    @Override
+    public Map<String, Boolean> containsProfanityAll(Collection<String> texts) {
+        Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        texts.forEach(text -> verdicts.put(text, false));
+        return verdicts;
+    }
 }
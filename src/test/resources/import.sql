@@ -0,0 +1 @@
+insert into change_version (aggregate, version) values ('MENU_GROUP', 0), ('PRODUCT', 0), ('MENU', 0), ('ORDER_TABLE', 0);